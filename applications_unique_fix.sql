@@ -0,0 +1,36 @@
+-- Add the one-application-per-seeker-and-job constraint over existing duplicates
+-- ddl-auto cannot add uk_applications_job_seeker while duplicate (job_id, seeker_id) rows exist,
+-- and the backend logs "duplicate applications" at startup until this has been run.
+
+-- Which row survives: of each seeker's applications to one job, the one with the most advanced
+-- status, ranked ACCEPTED > REVIEWING > REJECTED > PENDING > WITHDRAWN; on equal status, the
+-- earliest application (lowest id). All the others are deleted.
+
+-- Review the rows that would be deleted first
+SELECT a.id, a.job_id, a.seeker_id, a.status, a.applied_date
+FROM applications a
+JOIN applications keep
+  ON keep.job_id = a.job_id AND keep.seeker_id = a.seeker_id AND keep.id <> a.id
+ AND (FIELD(keep.status, 'WITHDRAWN', 'PENDING', 'REJECTED', 'REVIEWING', 'ACCEPTED')
+        > FIELD(a.status, 'WITHDRAWN', 'PENDING', 'REJECTED', 'REVIEWING', 'ACCEPTED')
+      OR (FIELD(keep.status, 'WITHDRAWN', 'PENDING', 'REJECTED', 'REVIEWING', 'ACCEPTED')
+            = FIELD(a.status, 'WITHDRAWN', 'PENDING', 'REJECTED', 'REVIEWING', 'ACCEPTED')
+          AND keep.id < a.id))
+ORDER BY a.job_id, a.seeker_id, a.id;
+
+-- Hold the table so no new duplicate can arrive between the delete and the constraint
+LOCK TABLES applications WRITE, applications AS a WRITE, applications AS keep READ;
+
+DELETE a FROM applications a
+JOIN applications keep
+  ON keep.job_id = a.job_id AND keep.seeker_id = a.seeker_id AND keep.id <> a.id
+ AND (FIELD(keep.status, 'WITHDRAWN', 'PENDING', 'REJECTED', 'REVIEWING', 'ACCEPTED')
+        > FIELD(a.status, 'WITHDRAWN', 'PENDING', 'REJECTED', 'REVIEWING', 'ACCEPTED')
+      OR (FIELD(keep.status, 'WITHDRAWN', 'PENDING', 'REJECTED', 'REVIEWING', 'ACCEPTED')
+            = FIELD(a.status, 'WITHDRAWN', 'PENDING', 'REJECTED', 'REVIEWING', 'ACCEPTED')
+          AND keep.id < a.id));
+
+ALTER TABLE applications
+ADD CONSTRAINT uk_applications_job_seeker UNIQUE (job_id, seeker_id);
+
+UNLOCK TABLES;
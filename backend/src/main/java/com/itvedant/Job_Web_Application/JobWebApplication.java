@@ -2,8 +2,10 @@ package com.itvedant.Job_Web_Application;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class JobWebApplication {
 
 	public static void main(String[] args) {
@@ -1,14 +1,22 @@
 package com.itvedant.Job_Web_Application.controller;
 
-import com.itvedant.Job_Web_Application.entities.Application;
+import com.itvedant.Job_Web_Application.entities.ApplicationStatusChange;
+import com.itvedant.Job_Web_Application.entities.RecruiterApplicationView;
+import com.itvedant.Job_Web_Application.entities.SeekerApplicationView;
 import com.itvedant.Job_Web_Application.service.ApplicationService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -28,7 +36,7 @@ public class ApplicationController {
     @GetMapping("/recruiter/{recruiterId}")
     public ResponseEntity<?> getApplicationsByRecruiter(@PathVariable Long recruiterId) {
         try {
-            List<Application> applications = applicationService.getApplicationsByRecruiterId(recruiterId);
+            List<RecruiterApplicationView> applications = applicationService.getApplicationsByRecruiterId(recruiterId);
             return ResponseEntity.ok(applications);
         } catch (Exception e) {
             Map<String, String> response = new HashMap<>();
@@ -37,6 +45,55 @@ public class ApplicationController {
         }
     }
 
+    /**
+     * GET /api/applications/recruiter/{recruiterId}/inbox?status=PENDING&order=desc&page=0&size=20&offset=
+     * One page of a recruiter's applications with job, applicant and profile details; offset, when
+     * given, replaces page * size as the first row
+     */
+    @GetMapping("/recruiter/{recruiterId}/inbox")
+    public ResponseEntity<?> getRecruiterInbox(
+            @PathVariable Long recruiterId,
+            @RequestParam(required = false) String status,
+            @RequestParam(defaultValue = "desc") String order,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "" + ApplicationService.DEFAULT_INBOX_PAGE_SIZE) int size,
+            @RequestParam(required = false) Long offset) {
+        try {
+            return ResponseEntity.ok(applicationService.getApplicationsWithDetails(recruiterId, status, order, page,
+                    size, offset));
+        } catch (IllegalArgumentException e) {
+            Map<String, String> response = new HashMap<>();
+            response.put("message", "Invalid status or order: " + e.getMessage());
+            return ResponseEntity.badRequest().body(response);
+        } catch (Exception e) {
+            Map<String, String> response = new HashMap<>();
+            response.put("message", "Error retrieving applications: " + e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        }
+    }
+
+    /**
+     * GET /api/applications/recruiter/{recruiterId}/export?format=csv|ndjson
+     * Download all of a recruiter's applications; rows are streamed as the query produces them
+     */
+    @GetMapping("/recruiter/{recruiterId}/export")
+    public ResponseEntity<?> exportApplications(@PathVariable Long recruiterId,
+                                                @RequestParam(defaultValue = ApplicationService.EXPORT_CSV) String format) {
+        String type = format.trim().toLowerCase();
+        if (!type.equals(ApplicationService.EXPORT_CSV) && !type.equals(ApplicationService.EXPORT_NDJSON)) {
+            Map<String, String> response = new HashMap<>();
+            response.put("message", "Unsupported export format: " + format);
+            return ResponseEntity.badRequest().body(response);
+        }
+        StreamingResponseBody body = out -> applicationService.exportApplications(recruiterId, type, out);
+        boolean csv = type.equals(ApplicationService.EXPORT_CSV);
+        return ResponseEntity.ok()
+                .contentType(csv ? new MediaType("text", "csv", StandardCharsets.UTF_8) : MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"applications-" + recruiterId + "." + type + "\"")
+                .body(body);
+    }
+
     /**
      * GET /api/applications/job/{jobId}
      * Get all applications for a specific job
@@ -44,7 +101,7 @@ public class ApplicationController {
     @GetMapping("/job/{jobId}")
     public ResponseEntity<?> getApplicationsByJob(@PathVariable Long jobId) {
         try {
-            List<Application> applications = applicationService.getApplicationsByJobId(jobId);
+            List<RecruiterApplicationView> applications = applicationService.getApplicationsByJobId(jobId);
             return ResponseEntity.ok(applications);
         } catch (Exception e) {
             Map<String, String> response = new HashMap<>();
@@ -53,6 +110,28 @@ public class ApplicationController {
         }
     }
 
+    /**
+     * GET /api/applications/job/{jobId}/ranked?page=&size=
+     * Applicants for a job ordered by profile match score, best first
+     */
+    @GetMapping("/job/{jobId}/ranked")
+    public ResponseEntity<?> getRankedApplicantsByJob(
+            @PathVariable Long jobId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "" + ApplicationService.DEFAULT_RANKED_PAGE_SIZE) int size) {
+        try {
+            return ResponseEntity.ok(applicationService.getRankedApplicants(jobId, page, size));
+        } catch (RuntimeException e) {
+            Map<String, String> response = new HashMap<>();
+            response.put("message", e.getMessage());
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
+        } catch (Exception e) {
+            Map<String, String> response = new HashMap<>();
+            response.put("message", "Error ranking applications: " + e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        }
+    }
+
     /**
      * GET /api/applications/seeker/{seekerId}
      * Get all applications by a specific seeker
@@ -60,7 +139,7 @@ public class ApplicationController {
     @GetMapping("/seeker/{seekerId}")
     public ResponseEntity<?> getApplicationsBySeeker(@PathVariable Long seekerId) {
         try {
-            List<Application> applications = applicationService.getApplicationsBySeekerId(seekerId);
+            List<SeekerApplicationView> applications = applicationService.getApplicationsBySeekerId(seekerId);
             return ResponseEntity.ok(applications);
         } catch (Exception e) {
             Map<String, String> response = new HashMap<>();
@@ -81,7 +160,7 @@ public class ApplicationController {
             String coverLetter = (String) request.get("coverLetter");
             String resumeUrl = (String) request.get("resumeUrl");
 
-            Application application = applicationService.createApplication(jobId, seekerId, coverLetter, resumeUrl);
+            SeekerApplicationView application = applicationService.createApplication(jobId, seekerId, coverLetter, resumeUrl);
             return ResponseEntity.status(HttpStatus.CREATED).body(application);
         } catch (RuntimeException e) {
             Map<String, String> response = new HashMap<>();
@@ -96,20 +175,26 @@ public class ApplicationController {
 
     /**
      * PUT /api/applications/{applicationId}/status
-     * Update application status
+     * Update application status; body is {"status": "ACCEPTED", "version": 3} where the optional
+     * version is the one last read. Stale versions and disallowed transitions get 409.
      */
     @PutMapping("/{applicationId}/status")
-    public ResponseEntity<?> updateApplicationStatus(@PathVariable Long applicationId, @RequestBody Map<String, String> request) {
+    public ResponseEntity<?> updateApplicationStatus(@PathVariable Long applicationId, @RequestBody Map<String, Object> request) {
         try {
-            String status = request.get("status");
-            if (status == null || status.trim().isEmpty()) {
+            Object status = request.get("status");
+            if (status == null || status.toString().trim().isEmpty()) {
                 Map<String, String> response = new HashMap<>();
                 response.put("message", "Status is required");
                 return ResponseEntity.badRequest().body(response);
             }
+            Long version = request.get("version") == null ? null : Long.valueOf(request.get("version").toString());
 
-            Application application = applicationService.updateApplicationStatus(applicationId, status);
-            return ResponseEntity.ok(application);
+            ApplicationStatusChange change = applicationService.updateApplicationStatus(applicationId, status.toString(), version);
+            return ResponseEntity.ok(change);
+        } catch (OptimisticLockingFailureException | IllegalStateException e) {
+            Map<String, String> response = new HashMap<>();
+            response.put("message", e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
         } catch (RuntimeException e) {
             Map<String, String> response = new HashMap<>();
             response.put("message", e.getMessage());
@@ -121,6 +206,45 @@ public class ApplicationController {
         }
     }
 
+    /**
+     * PUT /api/applications/status/bulk
+     * Move many applications to one status at once. Body is {"applicationIds": [...], "status": "REJECTED"}
+     * or {"jobId": 1, "fromStatus": "PENDING", "status": "REJECTED"}; fromStatus is optional.
+     */
+    @PutMapping("/status/bulk")
+    public ResponseEntity<?> updateApplicationStatuses(@RequestBody Map<String, Object> request) {
+        try {
+            Object status = request.get("status");
+            if (status == null || status.toString().trim().isEmpty()) {
+                Map<String, String> response = new HashMap<>();
+                response.put("message", "Status is required");
+                return ResponseEntity.badRequest().body(response);
+            }
+
+            List<Long> applicationIds = new ArrayList<>();
+            if (request.get("applicationIds") instanceof List<?> ids) {
+                for (Object id : ids) {
+                    if (id != null) {
+                        applicationIds.add(Long.valueOf(id.toString()));
+                    }
+                }
+            }
+            Long jobId = request.get("jobId") == null ? null : Long.valueOf(request.get("jobId").toString());
+            String fromStatus = request.get("fromStatus") == null ? null : request.get("fromStatus").toString();
+
+            return ResponseEntity.ok(applicationService.updateApplicationStatuses(
+                    applicationIds, jobId, fromStatus, status.toString()));
+        } catch (IllegalArgumentException e) {
+            Map<String, String> response = new HashMap<>();
+            response.put("message", e.getMessage());
+            return ResponseEntity.badRequest().body(response);
+        } catch (Exception e) {
+            Map<String, String> response = new HashMap<>();
+            response.put("message", "Error updating application statuses: " + e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        }
+    }
+
     /**
      * DELETE /api/applications/{applicationId}
      * Delete an application
@@ -172,8 +296,12 @@ public class ApplicationController {
     @GetMapping("/status/{status}")
     public ResponseEntity<?> getApplicationsByStatus(@PathVariable String status) {
         try {
-            List<Application> applications = applicationService.getApplicationsByStatus(status);
+            List<RecruiterApplicationView> applications = applicationService.getApplicationsByStatus(status);
             return ResponseEntity.ok(applications);
+        } catch (IllegalArgumentException e) {
+            Map<String, String> response = new HashMap<>();
+            response.put("message", "Unknown application status: " + status);
+            return ResponseEntity.badRequest().body(response);
         } catch (Exception e) {
             Map<String, String> response = new HashMap<>();
             response.put("message", "Error retrieving applications: " + e.getMessage());
@@ -233,7 +361,7 @@ public class ApplicationController {
             String resumeUrl = "/uploads/resumes/" + fileName;
 
             // Create application with resume URL
-            Application application = applicationService.createApplication(jobId, seekerId, null, resumeUrl);
+            SeekerApplicationView application = applicationService.createApplication(jobId, seekerId, null, resumeUrl);
 
             return ResponseEntity.status(HttpStatus.CREATED).body(application);
         } catch (RuntimeException e) {
@@ -1,12 +1,18 @@
 package com.itvedant.Job_Web_Application.controller;
 
 import com.itvedant.Job_Web_Application.entities.Job;
+import com.itvedant.Job_Web_Application.service.JobEngagementCounters;
 import com.itvedant.Job_Web_Application.service.JobService;
+import com.itvedant.Job_Web_Application.service.TrendingJobs;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.LocalDate;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -18,19 +24,140 @@ public class JobController {
     @Autowired
     private JobService jobService;
 
+    @Autowired
+    private JobEngagementCounters engagementCounters;
+
+    /**
+     * GET /api/jobs?cursor=&size=&location=&jobType=&experienceLevel=&company=&postedSince=&salaryCurrency=&minSalary=
+     * Keyset-paginated job feed, newest first. Answers If-None-Match with 304 while no job has changed.
+     */
     @GetMapping
-    public ResponseEntity<?> getAllJobs() {
+    public ResponseEntity<?> getAllJobs(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + JobService.DEFAULT_FEED_SIZE) int size,
+            @RequestParam(required = false) String location,
+            @RequestParam(required = false) String jobType,
+            @RequestParam(required = false) String experienceLevel,
+            @RequestParam(required = false) String company,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate postedSince,
+            @RequestParam(required = false) String salaryCurrency,
+            @RequestParam(required = false) Long minSalary,
+            WebRequest request) {
         try {
-            return ResponseEntity.ok(jobService.getAll());
+            String etag = "\"jobs-" + jobService.getJobsVersion() + "\"";
+            if (request.checkNotModified(etag)) {
+                return null;
+            }
+            return ResponseEntity.ok().eTag(etag).cacheControl(CacheControl.noCache())
+                    .body(jobService.getFeed(cursor, size, location, jobType,
+                            experienceLevel, company, postedSince, salaryCurrency, minSalary));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(Map.of("message", e.getMessage()));
         } catch (Exception e) {
             return errorResponse("Error retrieving jobs", e);
         }
     }
 
+    /**
+     * GET /api/jobs/search?q=&page=&size=
+     * Ranked full-text job search
+     */
+    @GetMapping("/search")
+    public ResponseEntity<?> searchJobs(
+            @RequestParam("q") String query,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "" + JobService.DEFAULT_FEED_SIZE) int size) {
+        try {
+            return ResponseEntity.ok(jobService.search(query, page, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(Map.of("message", e.getMessage()));
+        } catch (Exception e) {
+            return errorResponse("Error searching jobs", e);
+        }
+    }
+
+    /**
+     * GET /api/jobs/facets?location=&jobType=&experienceLevel=&postedWithin=24h|7d|30d
+     * Filter sidebar counts, each facet counted against the other active filters
+     */
+    @GetMapping("/facets")
+    public ResponseEntity<?> getFacets(
+            @RequestParam(required = false) String location,
+            @RequestParam(required = false) String jobType,
+            @RequestParam(required = false) String experienceLevel,
+            @RequestParam(required = false) String postedWithin) {
+        try {
+            return ResponseEntity.ok(jobService.getFacets(location, jobType, experienceLevel, postedWithin));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(Map.of("message", e.getMessage()));
+        } catch (Exception e) {
+            return errorResponse("Error retrieving job facets", e);
+        }
+    }
+
+    /**
+     * GET /api/jobs/suggest?prefix=&limit=
+     * Autocomplete for titles, companies and locations
+     */
+    @GetMapping("/suggest")
+    public ResponseEntity<?> suggest(
+            @RequestParam String prefix,
+            @RequestParam(defaultValue = "" + JobService.DEFAULT_SUGGESTIONS) int limit) {
+        try {
+            return ResponseEntity.ok(jobService.suggest(prefix, limit));
+        } catch (Exception e) {
+            return errorResponse("Error retrieving suggestions", e);
+        }
+    }
+
+    /**
+     * GET /api/jobs/salary?currency=&min=&max=&page=&size=
+     * Jobs within a yearly salary range, highest paying first
+     */
+    @GetMapping("/salary")
+    public ResponseEntity<?> searchBySalary(
+            @RequestParam(required = false) String currency,
+            @RequestParam(required = false) Long min,
+            @RequestParam(required = false) Long max,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "" + JobService.DEFAULT_FEED_SIZE) int size) {
+        try {
+            return ResponseEntity.ok(jobService.searchBySalary(currency, min, max, page, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(Map.of("message", e.getMessage()));
+        } catch (Exception e) {
+            return errorResponse("Error retrieving jobs by salary", e);
+        }
+    }
+
+    /**
+     * GET /api/jobs/trending?limit=
+     * Jobs ranked by recently decayed saves, applications and freshness; served from memory
+     */
+    @GetMapping("/trending")
+    public ResponseEntity<?> getTrending(@RequestParam(defaultValue = "" + TrendingJobs.DEFAULT_TRENDING) int limit) {
+        try {
+            return ResponseEntity.ok(jobService.getTrending(limit));
+        } catch (Exception e) {
+            return errorResponse("Error retrieving trending jobs", e);
+        }
+    }
+
+    /**
+     * GET /api/jobs/cache/stats
+     * Hit, miss and eviction counts of the job read cache
+     */
+    @GetMapping("/cache/stats")
+    public ResponseEntity<?> getCacheStats() {
+        return ResponseEntity.ok(jobService.getCacheStats());
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<?> getJobById(@PathVariable Long id) {
         try {
-            return ResponseEntity.ok(jobService.getJobById(id));
+            Job job = jobService.getJobById(id);
+            engagementCounters.recordView(id);
+            return ResponseEntity.ok(job);
         } catch (RuntimeException e) {
             return notFoundResponse(e.getMessage());
         } catch (Exception e) {
@@ -38,6 +165,19 @@ public class JobController {
         }
     }
 
+    /**
+     * GET /api/jobs/{id}/engagement
+     * View, save and apply counts of a job, including the last few seconds not yet flushed
+     */
+    @GetMapping("/{id}/engagement")
+    public ResponseEntity<?> getJobEngagement(@PathVariable Long id) {
+        try {
+            return ResponseEntity.ok(engagementCounters.getStats(id));
+        } catch (Exception e) {
+            return errorResponse("Error retrieving job engagement", e);
+        }
+    }
+
     @GetMapping("/recruiter/{recruiterId}")
     public ResponseEntity<?> getJobsByRecruiter(@PathVariable Long recruiterId) {
         try {
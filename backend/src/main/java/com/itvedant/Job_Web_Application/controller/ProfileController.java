@@ -3,10 +3,13 @@ package com.itvedant.Job_Web_Application.controller;
 import com.itvedant.Job_Web_Application.entities.Profile;
 import com.itvedant.Job_Web_Application.service.ProfileService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -21,13 +24,21 @@ public class ProfileController {
     
     /**
      * GET /api/profiles/seeker/{seekerId}
-     * Get profile by seeker ID
+     * Get profile by seeker ID; 304 when If-None-Match still matches the profile's last update
      */
     @GetMapping("/seeker/{seekerId}")
-    public ResponseEntity<?> getProfileBySeeker(@PathVariable Long seekerId) {
+    public ResponseEntity<?> getProfileBySeeker(@PathVariable Long seekerId, WebRequest request) {
         try {
+            LocalDateTime version = profileService.getProfileVersion(seekerId);
+            String etag = version == null ? null : "\"profile-" + seekerId + "-" + version + "\"";
+            if (etag != null && request.checkNotModified(etag)) {
+                return null;
+            }
             Profile profile = profileService.getProfileBySeekerId(seekerId);
-            return ResponseEntity.ok(profile);
+            if (etag == null) {
+                return ResponseEntity.ok(profile);
+            }
+            return ResponseEntity.ok().eTag(etag).cacheControl(CacheControl.noCache()).body(profile);
         } catch (RuntimeException e) {
             Map<String, String> response = new HashMap<>();
             response.put("message", e.getMessage());
@@ -153,10 +164,14 @@ public class ProfileController {
      * Get all profiles
      */
     @GetMapping
-    public ResponseEntity<?> getAllProfiles() {
+    public ResponseEntity<?> getAllProfiles(WebRequest request) {
         try {
+            String etag = "\"profiles-" + profileService.getProfilesVersion() + "\"";
+            if (request.checkNotModified(etag)) {
+                return null;
+            }
             List<Profile> profiles = profileService.getAllProfiles();
-            return ResponseEntity.ok(profiles);
+            return ResponseEntity.ok().eTag(etag).cacheControl(CacheControl.noCache()).body(profiles);
         } catch (Exception e) {
             Map<String, String> response = new HashMap<>();
             response.put("message", "Error retrieving profiles: " + e.getMessage());
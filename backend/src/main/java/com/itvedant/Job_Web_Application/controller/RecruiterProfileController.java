@@ -1,12 +1,22 @@
 package com.itvedant.Job_Web_Application.controller;
 
+import com.itvedant.Job_Web_Application.entities.RecruiterDashboardPage;
 import com.itvedant.Job_Web_Application.entities.RecruiterProfile;
+import com.itvedant.Job_Web_Application.entities.RecruiterStats;
+import com.itvedant.Job_Web_Application.service.ApplicationRollups;
+import com.itvedant.Job_Web_Application.service.ApplicationService;
+import com.itvedant.Job_Web_Application.service.JobService;
 import com.itvedant.Job_Web_Application.service.RecruiterProfileService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -18,19 +28,36 @@ public class RecruiterProfileController {
     @Autowired
     private RecruiterProfileService recruiterProfileService;
     
+    @Autowired
+    private JobService jobService;
+    
+    @Autowired
+    private ApplicationService applicationService;
+    
+    @Autowired
+    private ApplicationRollups applicationRollups;
+    
     /**
      * GET /api/recruiters/{recruiterId}/profile
-     * Get recruiter profile by recruiter ID
+     * Get recruiter profile by recruiter ID; 304 when If-None-Match still matches its last update
      */
     @GetMapping("/{recruiterId}/profile")
-    public ResponseEntity<?> getProfile(@PathVariable Long recruiterId) {
+    public ResponseEntity<?> getProfile(@PathVariable Long recruiterId, WebRequest request) {
         System.out.println("Received GET profile request for recruiter ID: " + recruiterId);
         try {
+            LocalDateTime version = recruiterProfileService.getProfileVersion(recruiterId);
+            String etag = version == null ? null : "\"recruiter-profile-" + recruiterId + "-" + version + "\"";
+            if (etag != null && request.checkNotModified(etag)) {
+                return null;
+            }
             var profile = recruiterProfileService.getProfileByRecruiterId(recruiterId);
             
             if (profile.isPresent()) {
                 System.out.println("Profile retrieved successfully: " + profile.get());
-                return ResponseEntity.ok(profile.get());
+                if (etag == null) {
+                    return ResponseEntity.ok(profile.get());
+                }
+                return ResponseEntity.ok().eTag(etag).cacheControl(CacheControl.noCache()).body(profile.get());
             } else {
                 System.out.println("Profile not found for recruiter ID: " + recruiterId);
                 Map<String, String> response = new HashMap<>();
@@ -51,6 +78,84 @@ public class RecruiterProfileController {
         }
     }
     
+    /**
+     * GET /api/recruiters/{recruiterId}/dashboard?page=0&size=20
+     * A page of the recruiter's jobs with application counts per status; 304 while neither jobs
+     * nor applications have changed since the client's copy
+     */
+    @GetMapping("/{recruiterId}/dashboard")
+    public ResponseEntity<?> getDashboard(@PathVariable Long recruiterId,
+                                          @RequestParam(defaultValue = "0") int page,
+                                          @RequestParam(defaultValue = "" + JobService.DEFAULT_DASHBOARD_SIZE) int size,
+                                          WebRequest request) {
+        try {
+            String etag = "\"recruiter-dashboard-" + jobService.getJobsVersion() + "-"
+                    + applicationService.getApplicationsVersion() + "\"";
+            if (request.checkNotModified(etag)) {
+                return null;
+            }
+            RecruiterDashboardPage dashboard = jobService.getRecruiterDashboard(recruiterId, page, size);
+            return ResponseEntity.ok().eTag(etag).cacheControl(CacheControl.noCache()).body(dashboard);
+        } catch (Exception e) {
+            System.err.println("General exception in GET dashboard: " + e.getMessage());
+            e.printStackTrace();
+            Map<String, String> response = new HashMap<>();
+            response.put("message", "Error retrieving dashboard: " + e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        }
+    }
+    
+    /**
+     * GET /api/recruiters/{recruiterId}/stats?from=2025-01-01&to=2025-02-01&granularity=DAY
+     * Application activity per hour or day, in total and per job, read from the rollup table only.
+     * from and to take a date or a date-time; to is exclusive.
+     */
+    @GetMapping("/{recruiterId}/stats")
+    public ResponseEntity<?> getStats(@PathVariable Long recruiterId,
+                                      @RequestParam(required = false) String from,
+                                      @RequestParam(required = false) String to,
+                                      @RequestParam(defaultValue = ApplicationRollups.DAY) String granularity) {
+        Map<String, String> response = new HashMap<>();
+        try {
+            RecruiterStats stats = applicationRollups.recruiterStats(recruiterId, granularity,
+                    parseInstant(from), parseInstant(to));
+            return ResponseEntity.ok(stats);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            response.put("message", e.getMessage());
+            return ResponseEntity.badRequest().body(response);
+        } catch (Exception e) {
+            System.err.println("General exception in GET stats: " + e.getMessage());
+            e.printStackTrace();
+            response.put("message", "Error retrieving stats: " + e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        }
+    }
+
+    /**
+     * GET /api/recruiters/{recruiterId}/funnels
+     * Saved, applied, reviewing and accepted counts for each of the recruiter's jobs
+     */
+    @GetMapping("/{recruiterId}/funnels")
+    public ResponseEntity<?> getFunnels(@PathVariable Long recruiterId) {
+        try {
+            return ResponseEntity.ok(jobService.getRecruiterFunnels(recruiterId));
+        } catch (Exception e) {
+            System.err.println("General exception in GET funnels: " + e.getMessage());
+            e.printStackTrace();
+            Map<String, String> response = new HashMap<>();
+            response.put("message", "Error retrieving funnels: " + e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        }
+    }
+
+    private static LocalDateTime parseInstant(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        String trimmed = value.trim();
+        return trimmed.length() == 10 ? LocalDate.parse(trimmed).atStartOfDay() : LocalDateTime.parse(trimmed);
+    }
+    
     /**
      * POST /api/recruiters/{recruiterId}/profile
      * Create new recruiter profile
@@ -2,13 +2,18 @@ package com.itvedant.Job_Web_Application.controller;
 
 
 import com.itvedant.Job_Web_Application.entities.SavedJob;
-import com.itvedant.Job_Web_Application.entities.SavedJobWithDetails;
+import com.itvedant.Job_Web_Application.entities.SavedJobsPage;
+import com.itvedant.Job_Web_Application.service.JobService;
 import com.itvedant.Job_Web_Application.service.SavedJobService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -21,6 +26,9 @@ public class SavedJobController {
     @Autowired
     private SavedJobService savedJobService;
     
+    @Autowired
+    private JobService jobService;
+    
     /**
      * Test endpoint to verify API is working
      */
@@ -62,13 +70,25 @@ public class SavedJobController {
     }
     
     /**
-     * Get all saved jobs for a seeker
+     * GET /api/saved-jobs/{seekerId}?page=0&size=20&cursorDate=&cursorId=
+     * A page of a seeker's saved jobs with job details, newest first. The ETag covers both saved
+     * jobs and the job details they embed, so a 304 is only sent while neither has changed.
      */
     @GetMapping("/{seekerId}")
-    public ResponseEntity<?> getSavedJobs(@PathVariable Long seekerId) {
+    public ResponseEntity<?> getSavedJobs(@PathVariable Long seekerId,
+                                          @RequestParam(defaultValue = "0") int page,
+                                          @RequestParam(defaultValue = "" + SavedJobService.DEFAULT_SAVED_JOBS_PAGE_SIZE) int size,
+                                          @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorDate,
+                                          @RequestParam(required = false) Long cursorId,
+                                          WebRequest request) {
         try {
-            List<SavedJobWithDetails> savedJobs = savedJobService.getSavedJobsWithDetailsBySeeker(seekerId);
-            return ResponseEntity.ok(savedJobs);
+            String etag = "\"saved-jobs-" + savedJobService.getSavedJobsVersion() + "-" + jobService.getJobsVersion() + "\"";
+            if (request.checkNotModified(etag)) {
+                return null;
+            }
+            SavedJobsPage savedJobs = savedJobService.getSavedJobsWithDetailsBySeeker(seekerId, page, size,
+                    cursorDate, cursorId);
+            return ResponseEntity.ok().eTag(etag).cacheControl(CacheControl.noCache()).body(savedJobs);
             
         } catch (RuntimeException e) {
             Map<String, String> error = new HashMap<>();
@@ -164,16 +184,18 @@ public class SavedJobController {
     }
     
     /**
-     * Bulk unsave jobs for a seeker
+     * Bulk unsave jobs for a seeker; the response lists the job ids that were actually saved and removed
      */
     @DeleteMapping("/bulk/{seekerId}")
     public ResponseEntity<?> unsaveMultipleJobs(
             @PathVariable Long seekerId, 
             @RequestBody List<Long> jobIds) {
         try {
-            savedJobService.unsaveMultipleJobs(seekerId, jobIds);
-            Map<String, String> response = new HashMap<>();
+            List<Long> removed = savedJobService.unsaveMultipleJobs(seekerId, jobIds);
+            Map<String, Object> response = new HashMap<>();
             response.put("message", "Jobs unsaved successfully");
+            response.put("removed", removed);
+            response.put("count", removed.size());
             return ResponseEntity.ok(response);
             
         } catch (RuntimeException e) {
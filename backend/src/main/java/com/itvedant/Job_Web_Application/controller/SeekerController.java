@@ -1,12 +1,14 @@
 package com.itvedant.Job_Web_Application.controller;
 
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import com.itvedant.Job_Web_Application.entities.Seeker;
+import com.itvedant.Job_Web_Application.service.JobService;
 import com.itvedant.Job_Web_Application.service.SeekerService;
 
 @RestController
@@ -15,9 +17,11 @@ import com.itvedant.Job_Web_Application.service.SeekerService;
 public class SeekerController {
 
     private final SeekerService service;
+    private final JobService jobService;
 
-    public SeekerController(SeekerService service) {
+    public SeekerController(SeekerService service, JobService jobService) {
         this.service = service;
+        this.jobService = jobService;
     }
 
     // Get all seekers
@@ -36,6 +40,33 @@ public class SeekerController {
         return ResponseEntity.notFound().build();
     }
 
+    // Jobs matching the seeker's profile skills, best first
+    @GetMapping("/{id}/recommended-jobs")
+    public ResponseEntity<?> recommendedJobs(@PathVariable Long id,
+            @RequestParam(defaultValue = "" + JobService.DEFAULT_RECOMMENDATIONS) int limit) {
+        try {
+            return ResponseEntity.ok(jobService.recommendForSeeker(id, limit));
+        } catch (Exception e) {
+            System.out.println("Recommendation error: " + e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("message", "Error retrieving recommended jobs: " + e.getMessage()));
+        }
+    }
+
+    // Saved/applied flags for a page of job cards; body is {"jobIds": [...]}
+    @PostMapping("/{id}/job-status")
+    public ResponseEntity<?> jobStatuses(@PathVariable Long id, @RequestBody Map<String, List<Long>> request) {
+        try {
+            return ResponseEntity.ok(service.getJobStatuses(id, request.get("jobIds")));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
+        } catch (Exception e) {
+            System.out.println("Job status error: " + e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("message", "Error retrieving job status: " + e.getMessage()));
+        }
+    }
+
     // Signup
     @PostMapping("/signup")
     public ResponseEntity<Seeker> register(@RequestBody Seeker seeker) {
@@ -7,7 +7,15 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.itvedant.Job_Web_Application.service.ApplicationStatus;
 
 @Entity
-@Table(name = "applications")
+@Table(name = "applications", uniqueConstraints = {
+        // One application per seeker and job, enforced even for concurrent submits
+        @UniqueConstraint(name = "uk_applications_job_seeker", columnNames = {"job_id", "seeker_id"})
+}, indexes = {
+        // Covers the per-job status counts recounted by ApplicationStatusCounters
+        @Index(name = "idx_applications_job_status", columnList = "job_id, status"),
+        // Lets rollup compaction recount recent days without scanning every application
+        @Index(name = "idx_applications_applied_date", columnList = "applied_date")
+})
 public class Application {
     
     @Id
@@ -33,6 +41,11 @@ public class Application {
     @Column(name = "resume_url")
     private String resumeUrl;
     
+    // Optimistic lock for status changes; existing rows start at 0
+    @Version
+    @Column(nullable = false, columnDefinition = "bigint not null default 0")
+    private long version;
+    
     // Constructors
     public Application() {}
     
@@ -92,6 +105,14 @@ public class Application {
         this.resumeUrl = resumeUrl;
     }
     
+    public long getVersion() {
+        return version;
+    }
+    
+    public void setVersion(long version) {
+        this.version = version;
+    }
+    
     @PrePersist
     protected void onCreate() {
         appliedDate = LocalDateTime.now();
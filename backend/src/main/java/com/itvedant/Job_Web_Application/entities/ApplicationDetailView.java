@@ -0,0 +1,24 @@
+package com.itvedant.Job_Web_Application.entities;
+
+import com.itvedant.Job_Web_Application.service.ApplicationStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * A single application with the full job and the applicant's contact details.
+ */
+public record ApplicationDetailView(Long id, ApplicationStatus status, LocalDateTime appliedDate,
+                                    String resumeUrl, SeekerApplicationView.JobInfo job,
+                                    RecruiterApplicationView.SeekerInfo seeker) {
+
+    // Flat form used by the JPQL constructor expression
+    public ApplicationDetailView(Long id, ApplicationStatus status, LocalDateTime appliedDate, String resumeUrl,
+                                 Long jobId, String title, String company, String location, String jobType,
+                                 String experienceLevel, String salaryRange, String description,
+                                 Long seekerId, String seekerName, String seekerEmail) {
+        this(id, status, appliedDate, resumeUrl,
+                new SeekerApplicationView.JobInfo(jobId, title, company, location, jobType,
+                        experienceLevel, salaryRange, description),
+                new RecruiterApplicationView.SeekerInfo(seekerId, seekerName, seekerEmail));
+    }
+}
@@ -0,0 +1,102 @@
+package com.itvedant.Job_Web_Application.entities;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * One hourly or daily bucket of application activity for a job: how many applications arrived
+ * (metric APPLIED) or moved into a status (metric = status name) in that period.
+ * Rows are written by ApplicationRollups with upserts, never through JPA.
+ */
+@Entity
+@Table(name = "application_rollups", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_application_rollups_bucket",
+                columnNames = {"granularity", "bucket_start", "job_id", "metric"})
+}, indexes = {
+        // Recruiter stats read a time range of one granularity across all their jobs
+        @Index(name = "idx_application_rollups_recruiter", columnList = "recruiter_id, granularity, bucket_start")
+})
+public class ApplicationRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 4)
+    private String granularity;
+
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+
+    @Column(name = "job_id", nullable = false)
+    private Long jobId;
+
+    @Column(name = "recruiter_id")
+    private Long recruiterId;
+
+    @Column(nullable = false, length = 16)
+    private String metric;
+
+    @Column(nullable = false)
+    private long count;
+
+    // Constructors
+    public ApplicationRollup() {}
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getGranularity() {
+        return granularity;
+    }
+
+    public void setGranularity(String granularity) {
+        this.granularity = granularity;
+    }
+
+    public LocalDateTime getBucketStart() {
+        return bucketStart;
+    }
+
+    public void setBucketStart(LocalDateTime bucketStart) {
+        this.bucketStart = bucketStart;
+    }
+
+    public Long getJobId() {
+        return jobId;
+    }
+
+    public void setJobId(Long jobId) {
+        this.jobId = jobId;
+    }
+
+    public Long getRecruiterId() {
+        return recruiterId;
+    }
+
+    public void setRecruiterId(Long recruiterId) {
+        this.recruiterId = recruiterId;
+    }
+
+    public String getMetric() {
+        return metric;
+    }
+
+    public void setMetric(String metric) {
+        this.metric = metric;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public void setCount(long count) {
+        this.count = count;
+    }
+}
@@ -0,0 +1,9 @@
+package com.itvedant.Job_Web_Application.entities;
+
+import com.itvedant.Job_Web_Application.service.ApplicationStatus;
+
+/**
+ * Outcome of a status update: the new status and version to send with the next change.
+ */
+public record ApplicationStatusChange(Long id, ApplicationStatus previousStatus, ApplicationStatus status,
+                                      long version) {}
@@ -0,0 +1,49 @@
+package com.itvedant.Job_Web_Application.entities;
+
+import java.util.Map;
+
+public class BulkStatusUpdateResult {
+
+    public static final String UPDATED = "UPDATED";
+    public static final String UNCHANGED = "UNCHANGED";
+    public static final String NOT_FOUND = "NOT_FOUND";
+    public static final String NOT_ALLOWED = "NOT_ALLOWED";
+
+    private String status;
+    private int updated;
+    private Map<Long, String> results;
+
+    // Constructors
+    public BulkStatusUpdateResult() {}
+
+    public BulkStatusUpdateResult(String status, int updated, Map<Long, String> results) {
+        this.status = status;
+        this.updated = updated;
+        this.results = results;
+    }
+
+    // Getters and Setters
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public int getUpdated() {
+        return updated;
+    }
+
+    public void setUpdated(int updated) {
+        this.updated = updated;
+    }
+
+    public Map<Long, String> getResults() {
+        return results;
+    }
+
+    public void setResults(Map<Long, String> results) {
+        this.results = results;
+    }
+}
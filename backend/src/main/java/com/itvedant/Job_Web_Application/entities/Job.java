@@ -8,7 +8,15 @@ import com.fasterxml.jackson.annotation.JsonBackReference;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 
 @Entity
-@Table(name = "jobs")
+@Table(name = "jobs", indexes = {
+        // Keyset feed: newest first, id as tie-breaker
+        @Index(name = "idx_jobs_posted_date_id", columnList = "posted_date, id"),
+        @Index(name = "idx_jobs_location_posted", columnList = "location, posted_date, id"),
+        @Index(name = "idx_jobs_type_posted", columnList = "job_type, posted_date, id"),
+        @Index(name = "idx_jobs_level_posted", columnList = "experience_level, posted_date, id"),
+        @Index(name = "idx_jobs_company_posted", columnList = "company, posted_date, id"),
+        @Index(name = "idx_jobs_salary", columnList = "salary_currency, salary_max, salary_min")
+})
 public class Job {
 
     @Id
@@ -30,6 +38,19 @@ public class Job {
     @Column(name = "salary_range")
     private String salaryRange;
 
+    // Parsed from salaryRange by JobService; yearly amounts in whole currency units
+    @Column(name = "salary_min")
+    private Long salaryMin;
+
+    @Column(name = "salary_max")
+    private Long salaryMax;
+
+    @Column(name = "salary_currency", length = 3)
+    private String salaryCurrency;
+
+    @Column(name = "salary_period", length = 8)
+    private String salaryPeriod;
+
     @Column(name = "job_type")
     private String jobType;
 
@@ -115,6 +136,38 @@ public class Job {
         this.salaryRange = salaryRange;
     }
 
+    public Long getSalaryMin() {
+        return salaryMin;
+    }
+
+    public void setSalaryMin(Long salaryMin) {
+        this.salaryMin = salaryMin;
+    }
+
+    public Long getSalaryMax() {
+        return salaryMax;
+    }
+
+    public void setSalaryMax(Long salaryMax) {
+        this.salaryMax = salaryMax;
+    }
+
+    public String getSalaryCurrency() {
+        return salaryCurrency;
+    }
+
+    public void setSalaryCurrency(String salaryCurrency) {
+        this.salaryCurrency = salaryCurrency;
+    }
+
+    public String getSalaryPeriod() {
+        return salaryPeriod;
+    }
+
+    public void setSalaryPeriod(String salaryPeriod) {
+        this.salaryPeriod = salaryPeriod;
+    }
+
     public String getJobType() {
         return jobType;
     }
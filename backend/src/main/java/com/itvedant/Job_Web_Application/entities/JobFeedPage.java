@@ -0,0 +1,44 @@
+package com.itvedant.Job_Web_Application.entities;
+
+import java.util.List;
+
+public class JobFeedPage {
+    
+    private List<Job> jobs;
+    private String nextCursor;
+    private boolean hasMore;
+    
+    // Constructors
+    public JobFeedPage() {}
+    
+    public JobFeedPage(List<Job> jobs, String nextCursor) {
+        this.jobs = jobs;
+        this.nextCursor = nextCursor;
+        this.hasMore = nextCursor != null;
+    }
+    
+    // Getters and Setters
+    public List<Job> getJobs() {
+        return jobs;
+    }
+    
+    public void setJobs(List<Job> jobs) {
+        this.jobs = jobs;
+    }
+    
+    public String getNextCursor() {
+        return nextCursor;
+    }
+    
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+    
+    public boolean isHasMore() {
+        return hasMore;
+    }
+    
+    public void setHasMore(boolean hasMore) {
+        this.hasMore = hasMore;
+    }
+}
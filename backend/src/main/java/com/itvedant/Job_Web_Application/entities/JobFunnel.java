@@ -0,0 +1,9 @@
+package com.itvedant.Job_Web_Application.entities;
+
+/**
+ * Conversion funnel of one job. saved and applied count distinct seekers; savedAndApplied are
+ * seekers who did both. reviewing counts applications currently REVIEWING or ACCEPTED, so it
+ * includes accepted.
+ */
+public record JobFunnel(Long jobId, long saved, long applied, long savedAndApplied, long reviewing,
+                        long accepted) {}
@@ -0,0 +1,80 @@
+package com.itvedant.Job_Web_Application.entities;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Lifetime engagement counts of a job. Rows are written by JobEngagementCounters with batched
+ * upserts, never through JPA; the in-memory counters hold whatever has not been flushed yet.
+ */
+@Entity
+@Table(name = "job_stats")
+public class JobStats {
+
+    @Id
+    @Column(name = "job_id")
+    private Long jobId;
+
+    @Column(nullable = false)
+    private long views;
+
+    @Column(nullable = false)
+    private long saves;
+
+    @Column(nullable = false)
+    private long applications;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    // Constructors
+    public JobStats() {}
+
+    public JobStats(Long jobId, long views, long saves, long applications) {
+        this.jobId = jobId;
+        this.views = views;
+        this.saves = saves;
+        this.applications = applications;
+    }
+
+    // Getters and Setters
+    public Long getJobId() {
+        return jobId;
+    }
+
+    public void setJobId(Long jobId) {
+        this.jobId = jobId;
+    }
+
+    public long getViews() {
+        return views;
+    }
+
+    public void setViews(long views) {
+        this.views = views;
+    }
+
+    public long getSaves() {
+        return saves;
+    }
+
+    public void setSaves(long saves) {
+        this.saves = saves;
+    }
+
+    public long getApplications() {
+        return applications;
+    }
+
+    public void setApplications(long applications) {
+        this.applications = applications;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
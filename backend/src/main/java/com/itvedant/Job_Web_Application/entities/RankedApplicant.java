@@ -0,0 +1,142 @@
+package com.itvedant.Job_Web_Application.entities;
+
+import java.time.LocalDateTime;
+
+public class RankedApplicant {
+
+    private Long applicationId;
+    private String status;
+    private LocalDateTime appliedDate;
+    private String resumeUrl;
+    private double score;
+
+    // Seeker and profile details
+    private Long seekerId;
+    private String seekerName;
+    private String seekerEmail;
+    private String profileHeadline;
+    private String skills;
+    private String experienceLevel;
+    private String location;
+
+    // Constructors
+    public RankedApplicant() {}
+
+    public RankedApplicant(Application application, Profile profile, double score) {
+        this.applicationId = application.getId();
+        this.status = application.getStatus() == null ? null : application.getStatus().name();
+        this.appliedDate = application.getAppliedDate();
+        this.resumeUrl = application.getResumeUrl();
+        this.score = score;
+
+        Seeker seeker = application.getSeeker();
+        if (seeker != null) {
+            this.seekerId = seeker.getId();
+            this.seekerName = seeker.getName();
+            this.seekerEmail = seeker.getEmail();
+        }
+        if (profile != null) {
+            this.profileHeadline = profile.getProfileHeadline();
+            this.skills = profile.getSkills();
+            this.experienceLevel = profile.getExperienceLevel();
+            this.location = profile.getLocation();
+        }
+    }
+
+    // Getters and Setters
+    public Long getApplicationId() {
+        return applicationId;
+    }
+
+    public void setApplicationId(Long applicationId) {
+        this.applicationId = applicationId;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public LocalDateTime getAppliedDate() {
+        return appliedDate;
+    }
+
+    public void setAppliedDate(LocalDateTime appliedDate) {
+        this.appliedDate = appliedDate;
+    }
+
+    public String getResumeUrl() {
+        return resumeUrl;
+    }
+
+    public void setResumeUrl(String resumeUrl) {
+        this.resumeUrl = resumeUrl;
+    }
+
+    public double getScore() {
+        return score;
+    }
+
+    public void setScore(double score) {
+        this.score = score;
+    }
+
+    public Long getSeekerId() {
+        return seekerId;
+    }
+
+    public void setSeekerId(Long seekerId) {
+        this.seekerId = seekerId;
+    }
+
+    public String getSeekerName() {
+        return seekerName;
+    }
+
+    public void setSeekerName(String seekerName) {
+        this.seekerName = seekerName;
+    }
+
+    public String getSeekerEmail() {
+        return seekerEmail;
+    }
+
+    public void setSeekerEmail(String seekerEmail) {
+        this.seekerEmail = seekerEmail;
+    }
+
+    public String getProfileHeadline() {
+        return profileHeadline;
+    }
+
+    public void setProfileHeadline(String profileHeadline) {
+        this.profileHeadline = profileHeadline;
+    }
+
+    public String getSkills() {
+        return skills;
+    }
+
+    public void setSkills(String skills) {
+        this.skills = skills;
+    }
+
+    public String getExperienceLevel() {
+        return experienceLevel;
+    }
+
+    public void setExperienceLevel(String experienceLevel) {
+        this.experienceLevel = experienceLevel;
+    }
+
+    public String getLocation() {
+        return location;
+    }
+
+    public void setLocation(String location) {
+        this.location = location;
+    }
+}
@@ -0,0 +1,54 @@
+package com.itvedant.Job_Web_Application.entities;
+
+import java.util.List;
+
+public class RankedApplicantPage {
+
+    private List<RankedApplicant> applicants;
+    private int total;
+    private int page;
+    private int size;
+
+    // Constructors
+    public RankedApplicantPage() {}
+
+    public RankedApplicantPage(List<RankedApplicant> applicants, int total, int page, int size) {
+        this.applicants = applicants;
+        this.total = total;
+        this.page = page;
+        this.size = size;
+    }
+
+    // Getters and Setters
+    public List<RankedApplicant> getApplicants() {
+        return applicants;
+    }
+
+    public void setApplicants(List<RankedApplicant> applicants) {
+        this.applicants = applicants;
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public void setTotal(int total) {
+        this.total = total;
+    }
+
+    public int getPage() {
+        return page;
+    }
+
+    public void setPage(int page) {
+        this.page = page;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public void setSize(int size) {
+        this.size = size;
+    }
+}
@@ -0,0 +1,30 @@
+package com.itvedant.Job_Web_Application.entities;
+
+public class RecommendedJob {
+
+    private Job job;
+    private double score;
+
+    public RecommendedJob() {}
+
+    public RecommendedJob(Job job, double score) {
+        this.job = job;
+        this.score = score;
+    }
+
+    public Job getJob() {
+        return job;
+    }
+
+    public void setJob(Job job) {
+        this.job = job;
+    }
+
+    public double getScore() {
+        return score;
+    }
+
+    public void setScore(double score) {
+        this.score = score;
+    }
+}
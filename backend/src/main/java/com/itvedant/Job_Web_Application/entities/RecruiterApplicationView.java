@@ -0,0 +1,25 @@
+package com.itvedant.Job_Web_Application.entities;
+
+import com.itvedant.Job_Web_Application.service.ApplicationStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Application row as recruiters list it: no job description and no seeker profile.
+ */
+public record RecruiterApplicationView(Long id, ApplicationStatus status, LocalDateTime appliedDate,
+                                       String resumeUrl, JobInfo job, SeekerInfo seeker) {
+
+    // Flat form used by the JPQL constructor expression
+    public RecruiterApplicationView(Long id, ApplicationStatus status, LocalDateTime appliedDate, String resumeUrl,
+                                    Long jobId, String title, String company, String location, String jobType,
+                                    Long seekerId, String seekerName, String seekerEmail) {
+        this(id, status, appliedDate, resumeUrl,
+                new JobInfo(jobId, title, company, location, jobType),
+                new SeekerInfo(seekerId, seekerName, seekerEmail));
+    }
+
+    public record JobInfo(Long id, String title, String company, String location, String jobType) {}
+
+    public record SeekerInfo(Long id, String name, String email) {}
+}
@@ -0,0 +1,46 @@
+package com.itvedant.Job_Web_Application.entities;
+
+import java.util.Map;
+
+public class RecruiterDashboardJob {
+
+    private Job job;
+    private Map<String, Long> statusCounts;
+    private long totalApplications;
+
+    // Constructors
+    public RecruiterDashboardJob() {}
+
+    public RecruiterDashboardJob(Job job, Map<String, Long> statusCounts) {
+        this.job = job;
+        this.statusCounts = statusCounts;
+        for (long count : statusCounts.values()) {
+            this.totalApplications += count;
+        }
+    }
+
+    // Getters and Setters
+    public Job getJob() {
+        return job;
+    }
+
+    public void setJob(Job job) {
+        this.job = job;
+    }
+
+    public Map<String, Long> getStatusCounts() {
+        return statusCounts;
+    }
+
+    public void setStatusCounts(Map<String, Long> statusCounts) {
+        this.statusCounts = statusCounts;
+    }
+
+    public long getTotalApplications() {
+        return totalApplications;
+    }
+
+    public void setTotalApplications(long totalApplications) {
+        this.totalApplications = totalApplications;
+    }
+}
@@ -0,0 +1,54 @@
+package com.itvedant.Job_Web_Application.entities;
+
+import java.util.List;
+
+public class RecruiterDashboardPage {
+
+    private List<RecruiterDashboardJob> jobs;
+    private int total;
+    private int page;
+    private int size;
+
+    // Constructors
+    public RecruiterDashboardPage() {}
+
+    public RecruiterDashboardPage(List<RecruiterDashboardJob> jobs, int total, int page, int size) {
+        this.jobs = jobs;
+        this.total = total;
+        this.page = page;
+        this.size = size;
+    }
+
+    // Getters and Setters
+    public List<RecruiterDashboardJob> getJobs() {
+        return jobs;
+    }
+
+    public void setJobs(List<RecruiterDashboardJob> jobs) {
+        this.jobs = jobs;
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public void setTotal(int total) {
+        this.total = total;
+    }
+
+    public int getPage() {
+        return page;
+    }
+
+    public void setPage(int page) {
+        this.page = page;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public void setSize(int size) {
+        this.size = size;
+    }
+}
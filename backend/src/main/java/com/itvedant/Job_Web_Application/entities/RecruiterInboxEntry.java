@@ -0,0 +1,17 @@
+package com.itvedant.Job_Web_Application.entities;
+
+import com.itvedant.Job_Web_Application.service.ApplicationStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Application row of the recruiter inbox: the list view plus the applicant's profile, which is
+ * null when the seeker has not created one.
+ */
+public record RecruiterInboxEntry(Long id, ApplicationStatus status, long version, LocalDateTime appliedDate,
+                                  String resumeUrl, RecruiterApplicationView.JobInfo job,
+                                  RecruiterApplicationView.SeekerInfo seeker, ProfileInfo profile) {
+
+    public record ProfileInfo(String profileHeadline, String location, String skills, String education,
+                              String experienceLevel, String phoneNumber) {}
+}
@@ -0,0 +1,66 @@
+package com.itvedant.Job_Web_Application.entities;
+
+import java.util.List;
+import java.util.Map;
+
+public class RecruiterInboxPage {
+
+    private List<RecruiterInboxEntry> applications;
+    private Map<String, Long> statusCounts;
+    private long total;
+    private int page;
+    private int size;
+
+    // Constructors
+    public RecruiterInboxPage() {}
+
+    public RecruiterInboxPage(List<RecruiterInboxEntry> applications, Map<String, Long> statusCounts,
+                              long total, int page, int size) {
+        this.applications = applications;
+        this.statusCounts = statusCounts;
+        this.total = total;
+        this.page = page;
+        this.size = size;
+    }
+
+    // Getters and Setters
+    public List<RecruiterInboxEntry> getApplications() {
+        return applications;
+    }
+
+    public void setApplications(List<RecruiterInboxEntry> applications) {
+        this.applications = applications;
+    }
+
+    public Map<String, Long> getStatusCounts() {
+        return statusCounts;
+    }
+
+    public void setStatusCounts(Map<String, Long> statusCounts) {
+        this.statusCounts = statusCounts;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public void setTotal(long total) {
+        this.total = total;
+    }
+
+    public int getPage() {
+        return page;
+    }
+
+    public void setPage(int page) {
+        this.page = page;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public void setSize(int size) {
+        this.size = size;
+    }
+}
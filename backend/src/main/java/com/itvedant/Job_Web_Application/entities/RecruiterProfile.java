@@ -1,6 +1,7 @@
 package com.itvedant.Job_Web_Application.entities;
 
 import jakarta.persistence.*;
+import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "recruiter_profiles")
@@ -37,6 +38,9 @@ public class RecruiterProfile {
     @Column(name = "website")
     private String website;
     
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+    
     // Constructors
     public RecruiterProfile() {}
     
@@ -127,6 +131,20 @@ public class RecruiterProfile {
         this.website = website;
     }
     
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+    
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+    
+    @PrePersist
+    @PreUpdate
+    protected void onSave() {
+        updatedAt = LocalDateTime.now();
+    }
+    
     @Override
     public String toString() {
         return "RecruiterProfile{" +
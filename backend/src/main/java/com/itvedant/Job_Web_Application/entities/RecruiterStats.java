@@ -0,0 +1,15 @@
+package com.itvedant.Job_Web_Application.entities;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Application activity of a recruiter over a time range, as buckets of one granularity: totals
+ * across their jobs plus one series per job. Empty buckets are left out.
+ */
+public record RecruiterStats(String granularity, LocalDateTime from, LocalDateTime to,
+                             List<Bucket> totals, Map<Long, List<Bucket>> jobs) {
+
+    public record Bucket(LocalDateTime start, Map<String, Long> counts) {}
+}
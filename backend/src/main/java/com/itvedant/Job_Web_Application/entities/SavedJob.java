@@ -7,7 +7,12 @@ import org.hibernate.annotations.OnDelete;
 import org.hibernate.annotations.OnDeleteAction;
 
 @Entity
-@Table(name = "saved_jobs")
+@Table(name = "saved_jobs", indexes = {
+        // Funnel passes read saved jobs in (job_id, seeker_id) order
+        @Index(name = "idx_saved_jobs_job_seeker", columnList = "job_id, seeker_id"),
+        // A seeker's saved jobs, newest first
+        @Index(name = "idx_saved_jobs_seeker_date", columnList = "seeker_id, saved_date, id")
+})
 public class SavedJob {
     
     @Id
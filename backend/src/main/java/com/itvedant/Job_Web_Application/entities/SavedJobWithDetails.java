@@ -40,6 +40,22 @@ public class SavedJobWithDetails {
         }
     }
     
+    public SavedJobWithDetails(Long savedJobId, Long jobId, Long seekerId, LocalDateTime savedDate,
+                               String jobTitle, String company, String location, String description,
+                               String salaryRange, String jobType, String experienceLevel) {
+        this.savedJobId = savedJobId;
+        this.jobId = jobId;
+        this.seekerId = seekerId;
+        this.savedDate = savedDate;
+        this.jobTitle = jobTitle;
+        this.company = company;
+        this.location = location;
+        this.description = description;
+        this.salaryRange = salaryRange;
+        this.jobType = jobType;
+        this.experienceLevel = experienceLevel;
+    }
+    
     // Getters and Setters
     public Long getSavedJobId() {
         return savedJobId;
@@ -0,0 +1,54 @@
+package com.itvedant.Job_Web_Application.entities;
+
+import java.util.List;
+
+public class SavedJobsPage {
+
+    private List<SavedJobWithDetails> savedJobs;
+    private long total;
+    private int page;
+    private int size;
+
+    // Constructors
+    public SavedJobsPage() {}
+
+    public SavedJobsPage(List<SavedJobWithDetails> savedJobs, long total, int page, int size) {
+        this.savedJobs = savedJobs;
+        this.total = total;
+        this.page = page;
+        this.size = size;
+    }
+
+    // Getters and Setters
+    public List<SavedJobWithDetails> getSavedJobs() {
+        return savedJobs;
+    }
+
+    public void setSavedJobs(List<SavedJobWithDetails> savedJobs) {
+        this.savedJobs = savedJobs;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public void setTotal(long total) {
+        this.total = total;
+    }
+
+    public int getPage() {
+        return page;
+    }
+
+    public void setPage(int page) {
+        this.page = page;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public void setSize(int size) {
+        this.size = size;
+    }
+}
@@ -0,0 +1,23 @@
+package com.itvedant.Job_Web_Application.entities;
+
+import com.itvedant.Job_Web_Application.service.ApplicationStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Application row as the applicant lists it: the job they applied to, nothing about themselves.
+ */
+public record SeekerApplicationView(Long id, ApplicationStatus status, LocalDateTime appliedDate,
+                                    String resumeUrl, JobInfo job) {
+
+    // Flat form used by the JPQL constructor expression
+    public SeekerApplicationView(Long id, ApplicationStatus status, LocalDateTime appliedDate, String resumeUrl,
+                                 Long jobId, String title, String company, String location, String jobType,
+                                 String experienceLevel, String salaryRange, String description) {
+        this(id, status, appliedDate, resumeUrl,
+                new JobInfo(jobId, title, company, location, jobType, experienceLevel, salaryRange, description));
+    }
+
+    public record JobInfo(Long id, String title, String company, String location, String jobType,
+                          String experienceLevel, String salaryRange, String description) {}
+}
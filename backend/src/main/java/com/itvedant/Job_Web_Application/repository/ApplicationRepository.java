@@ -7,12 +7,62 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.itvedant.Job_Web_Application.entities.Application;
+import com.itvedant.Job_Web_Application.entities.ApplicationDetailView;
+import com.itvedant.Job_Web_Application.entities.RecruiterApplicationView;
+import com.itvedant.Job_Web_Application.entities.SeekerApplicationView;
+import com.itvedant.Job_Web_Application.service.ApplicationStatus;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ApplicationRepository extends JpaRepository<Application, Long> {
     
+    // Projections select only the columns each view serializes, never the full job/seeker graph
+    String RECRUITER_VIEW = "SELECT new com.itvedant.Job_Web_Application.entities.RecruiterApplicationView("
+            + "a.id, a.status, a.appliedDate, a.resumeUrl, j.id, j.title, j.company, j.location, j.jobType, "
+            + "s.id, s.name, s.email) FROM Application a JOIN a.job j JOIN a.seeker s";
+    
+    String SEEKER_VIEW = "SELECT new com.itvedant.Job_Web_Application.entities.SeekerApplicationView("
+            + "a.id, a.status, a.appliedDate, a.resumeUrl, j.id, j.title, j.company, j.location, j.jobType, "
+            + "j.experienceLevel, j.salaryRange, j.description) FROM Application a JOIN a.job j";
+    
+    String DETAIL_VIEW = "SELECT new com.itvedant.Job_Web_Application.entities.ApplicationDetailView("
+            + "a.id, a.status, a.appliedDate, a.resumeUrl, j.id, j.title, j.company, j.location, j.jobType, "
+            + "j.experienceLevel, j.salaryRange, j.description, s.id, s.name, s.email) "
+            + "FROM Application a JOIN a.job j JOIN a.seeker s";
+    
+    /**
+     * Recruiter list view of applications for jobs posted by a recruiter
+     */
+    @Query(RECRUITER_VIEW + " WHERE j.recruiter.id = :recruiterId")
+    List<RecruiterApplicationView> findRecruiterViewsByRecruiterId(@Param("recruiterId") Long recruiterId);
+    
+    /**
+     * Recruiter list view of applications for one job
+     */
+    @Query(RECRUITER_VIEW + " WHERE j.id = :jobId")
+    List<RecruiterApplicationView> findRecruiterViewsByJobId(@Param("jobId") Long jobId);
+    
+    /**
+     * Recruiter list view of applications in a status
+     */
+    @Query(RECRUITER_VIEW + " WHERE a.status = :status")
+    List<RecruiterApplicationView> findRecruiterViewsByStatus(@Param("status") ApplicationStatus status);
+    
+    /**
+     * Seeker list view of a seeker's own applications
+     */
+    @Query(SEEKER_VIEW + " WHERE a.seeker.id = :seekerId")
+    List<SeekerApplicationView> findSeekerViewsBySeekerId(@Param("seekerId") Long seekerId);
+    
+    /**
+     * Detail view of one application
+     */
+    @Query(DETAIL_VIEW + " WHERE a.id = :applicationId")
+    Optional<ApplicationDetailView> findDetailViewById(@Param("applicationId") Long applicationId);
+    
     /**
      * Find all applications for jobs posted by a specific recruiter
      */
@@ -25,12 +75,24 @@ public interface ApplicationRepository extends JpaRepository<Application, Long>
     @Query("SELECT a FROM Application a JOIN FETCH a.job WHERE a.job.id = :jobId")
     List<Application> findByJobId(@Param("jobId") Long jobId);
     
+    /**
+     * Find all applications for a job with seeker and profile loaded in the same query
+     */
+    @Query("SELECT a FROM Application a JOIN FETCH a.job JOIN FETCH a.seeker s LEFT JOIN FETCH s.profile WHERE a.job.id = :jobId")
+    List<Application> findByJobIdWithProfiles(@Param("jobId") Long jobId);
+    
     /**
      * Find all applications by a specific seeker with job data
      */
     @Query("SELECT a FROM Application a JOIN FETCH a.job WHERE a.seeker.id = :seekerId")
     List<Application> findBySeekerId(@Param("seekerId") Long seekerId);
     
+    /**
+     * Ids of the jobs a seeker has applied to
+     */
+    @Query("SELECT a.job.id FROM Application a WHERE a.seeker.id = :seekerId")
+    List<Long> findJobIdsBySeekerId(@Param("seekerId") Long seekerId);
+    
     /**
      * Find applications by status
      */
@@ -49,15 +111,16 @@ public interface ApplicationRepository extends JpaRepository<Application, Long>
     boolean existsByJobIdAndSeekerId(Long jobId, Long seekerId);
     
     /**
-     * Count applications for a specific job
+     * Change the status only if the row is still at the expected version and in one of the allowed
+     * source statuses; returns 0 when the application is missing, stale or not in such a status
      */
-    long countByJobId(Long jobId);
-    
-    /**
-     * Count applications by status for a specific recruiter
-     */
-    @Query("SELECT COUNT(a) FROM Application a JOIN a.job j WHERE j.recruiter.id = :recruiterId AND a.status = :status")
-    long countByRecruiterIdAndStatus(@Param("recruiterId") Long recruiterId, @Param("status") String status);
+    @Modifying
+    @Query("UPDATE Application a SET a.status = :status, a.version = a.version + 1"
+            + " WHERE a.id = :applicationId AND a.version = :version AND a.status IN :fromStatuses")
+    int updateStatusIfCurrent(@Param("applicationId") Long applicationId,
+                              @Param("status") ApplicationStatus status,
+                              @Param("version") long version,
+                              @Param("fromStatuses") Collection<ApplicationStatus> fromStatuses);
     
     /**
      * Delete all applications for a specific job ID
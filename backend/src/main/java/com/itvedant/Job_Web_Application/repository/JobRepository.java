@@ -1,6 +1,8 @@
 package com.itvedant.Job_Web_Application.repository;
 
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -8,6 +10,7 @@ import org.springframework.stereotype.Repository;
 
 import com.itvedant.Job_Web_Application.entities.Job;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @Repository
@@ -15,7 +18,38 @@ public interface JobRepository extends JpaRepository<Job, Long> {
     
   
     List<Job> findByRecruiterId(Long recruiterId);
+
+    /**
+     * One page of a recruiter's jobs, newest first (undated jobs last), with the recruiter's job count
+     */
+    Page<Job> findByRecruiterIdOrderByPostedDateDescIdDesc(Long recruiterId, Pageable pageable);
    
     @Query("DELETE FROM SavedJob sj WHERE sj.jobId = :jobId")
     void deleteAllByJobId(@Param("jobId") Long jobId);
-}
\ No newline at end of file
+
+    /**
+     * One page of the job feed, newest first, seeking past (cursorDate, cursorId).
+     * Null filters are ignored; pass a Pageable of size+1 to detect a following page.
+     */
+    @Query("SELECT j FROM Job j WHERE j.postedDate IS NOT NULL"
+            + " AND (:location IS NULL OR j.location = :location)"
+            + " AND (:jobType IS NULL OR j.jobType = :jobType)"
+            + " AND (:experienceLevel IS NULL OR j.experienceLevel = :experienceLevel)"
+            + " AND (:company IS NULL OR j.company = :company)"
+            + " AND (:postedSince IS NULL OR j.postedDate >= :postedSince)"
+            + " AND (:salaryCurrency IS NULL OR j.salaryCurrency = :salaryCurrency)"
+            + " AND (:minSalary IS NULL OR j.salaryMax >= :minSalary)"
+            + " AND (:cursorDate IS NULL OR j.postedDate < :cursorDate"
+            + "      OR (j.postedDate = :cursorDate AND j.id < :cursorId))"
+            + " ORDER BY j.postedDate DESC, j.id DESC")
+    List<Job> findFeedPage(@Param("location") String location,
+                           @Param("jobType") String jobType,
+                           @Param("experienceLevel") String experienceLevel,
+                           @Param("company") String company,
+                           @Param("postedSince") LocalDate postedSince,
+                           @Param("salaryCurrency") String salaryCurrency,
+                           @Param("minSalary") Long minSalary,
+                           @Param("cursorDate") LocalDate cursorDate,
+                           @Param("cursorId") Long cursorId,
+                           Pageable pageable);
+}
@@ -2,8 +2,11 @@ package com.itvedant.Job_Web_Application.repository;
 
 import com.itvedant.Job_Web_Application.entities.Profile;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 @Repository
@@ -19,4 +22,10 @@ public interface ProfileRepository extends JpaRepository<Profile, Long> {
      */
     boolean existsBySeekerId(Long seekerId);
     
+    /**
+     * Last update time of a seeker's profile, for ETags
+     */
+    @Query("SELECT p.updatedAt FROM Profile p WHERE p.seeker.id = :seekerId")
+    Optional<LocalDateTime> findUpdatedAtBySeekerId(@Param("seekerId") Long seekerId);
+    
 }
\ No newline at end of file
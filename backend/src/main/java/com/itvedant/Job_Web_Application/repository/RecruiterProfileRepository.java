@@ -2,8 +2,11 @@ package com.itvedant.Job_Web_Application.repository;
 
 import com.itvedant.Job_Web_Application.entities.RecruiterProfile;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 @Repository
@@ -19,6 +22,12 @@ public interface RecruiterProfileRepository extends JpaRepository<RecruiterProfi
      */
     boolean existsByRecruiterId(Long recruiterId);
     
+    /**
+     * Last update time of a recruiter's profile, for ETags; null for rows saved before it was tracked
+     */
+    @Query("SELECT p.updatedAt FROM RecruiterProfile p WHERE p.recruiterId = :recruiterId")
+    Optional<LocalDateTime> findUpdatedAtByRecruiterId(@Param("recruiterId") Long recruiterId);
+    
     /**
      * Delete profile by recruiter ID
      */
@@ -1,18 +1,50 @@
 package com.itvedant.Job_Web_Application.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.itvedant.Job_Web_Application.entities.SavedJob;
+import com.itvedant.Job_Web_Application.entities.SavedJobWithDetails;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface SavedJobRepository extends JpaRepository<SavedJob, Long> {
     
+    // Inner join, so saved rows whose job was deleted drop out
+    String DETAILS_VIEW = "SELECT new com.itvedant.Job_Web_Application.entities.SavedJobWithDetails("
+            + "s.id, s.jobId, s.seekerId, s.savedDate, j.title, j.company, j.location, j.description, "
+            + "j.salaryRange, j.jobType, j.experienceLevel) FROM SavedJob s JOIN Job j ON j.id = s.jobId";
+    
+    /**
+     * One page of a seeker's saved jobs with their job details, newest first
+     */
+    @Query(DETAILS_VIEW + " WHERE s.seekerId = :seekerId ORDER BY s.savedDate DESC, s.id DESC")
+    List<SavedJobWithDetails> findDetailsBySeekerId(@Param("seekerId") Long seekerId, Pageable pageable);
+    
+    /**
+     * The saved jobs after a (savedDate, id) cursor in the same order, so rows unsaved or saved
+     * since the previous page neither shift nor repeat what follows
+     */
+    @Query(DETAILS_VIEW + " WHERE s.seekerId = :seekerId"
+            + " AND (s.savedDate < :cursorDate OR (s.savedDate = :cursorDate AND s.id < :cursorId))"
+            + " ORDER BY s.savedDate DESC, s.id DESC")
+    List<SavedJobWithDetails> findDetailsBySeekerIdBefore(@Param("seekerId") Long seekerId,
+                                                          @Param("cursorDate") LocalDateTime cursorDate,
+                                                          @Param("cursorId") Long cursorId,
+                                                          Pageable pageable);
+    
+    /**
+     * Number of a seeker's saved jobs whose job still exists
+     */
+    @Query("SELECT COUNT(s) FROM SavedJob s JOIN Job j ON j.id = s.jobId WHERE s.seekerId = :seekerId")
+    long countExistingBySeekerId(@Param("seekerId") Long seekerId);
+    
     // Find all saved jobs by seeker ID
     List<SavedJob> findBySeekerId(Long seekerId);
     
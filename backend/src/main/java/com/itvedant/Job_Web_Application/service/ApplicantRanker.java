@@ -0,0 +1,162 @@
+package com.itvedant.Job_Web_Application.service;
+
+import com.itvedant.Job_Web_Application.entities.Job;
+import com.itvedant.Job_Web_Application.entities.Profile;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Scores applicant profiles against a job: skills by vector match, plus experience level and
+ * location. Scores are cached per job and seeker and keyed by the profile's updatedAt, so a
+ * cached score is reused until the job is saved again, the profile changes, or the application or
+ * seeker goes away. Only the most recently ranked jobs keep their scores.
+ */
+@Component
+public class ApplicantRanker {
+
+    private static final double SKILLS_WEIGHT = 0.7;
+    private static final double EXPERIENCE_WEIGHT = 0.2;
+    private static final double LOCATION_WEIGHT = 0.1;
+
+    @Autowired
+    private JobRecommender jobRecommender;
+
+    @Value("${app.applicant-ranker.max-jobs:500}")
+    private int maxJobs;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    // jobId -> seekerId -> score at that profile version; access-ordered, so the eldest job goes first
+    private final LinkedHashMap<Long, Map<Long, CachedScore>> scoresByJob = new LinkedHashMap<>(64, 0.75f, true);
+
+    /**
+     * Scores in the same order as the profiles, whose seekers are given alongside; a null profile scores 0
+     */
+    public double[] score(Job job, List<Long> seekerIds, List<Profile> profiles) {
+        double[] scores = new double[profiles.size()];
+        Map<Long, CachedScore> cached = scoresFor(job.getId());
+
+        // Collect the profiles whose score is missing or stale and score them in one pass
+        List<Integer> pending = new ArrayList<>();
+        List<String> pendingSkills = new ArrayList<>();
+        for (int i = 0; i < scores.length; i++) {
+            Profile profile = profiles.get(i);
+            if (profile == null) {
+                continue;
+            }
+            CachedScore hit = cached.get(seekerIds.get(i));
+            if (hit != null && Objects.equals(hit.version(), profile.getUpdatedAt())) {
+                scores[i] = hit.score();
+            } else {
+                pending.add(i);
+                pendingSkills.add(profile.getSkills());
+            }
+        }
+        if (pending.isEmpty()) {
+            return scores;
+        }
+
+        double[] skillScores = jobRecommender.skillMatches(job.getId(), pendingSkills);
+        for (int p = 0; p < pending.size(); p++) {
+            int i = pending.get(p);
+            Profile profile = profiles.get(i);
+            double score = SKILLS_WEIGHT * skillScores[p]
+                    + EXPERIENCE_WEIGHT * (sameValue(job.getExperienceLevel(), profile.getExperienceLevel()) ? 1 : 0)
+                    + LOCATION_WEIGHT * (locationMatches(job.getLocation(), profile.getLocation()) ? 1 : 0);
+            scores[i] = score;
+            cached.put(seekerIds.get(i), new CachedScore(profile.getUpdatedAt(), score));
+        }
+        return scores;
+    }
+
+    /**
+     * Drop cached scores for a job whose content changed or which was deleted
+     */
+    public void invalidateJob(Long jobId) {
+        if (jobId == null) {
+            return;
+        }
+        lock.lock();
+        try {
+            scoresByJob.remove(jobId);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Drop the cached score of a withdrawn or deleted application
+     */
+    public void forgetApplicant(Long jobId, Long seekerId) {
+        lock.lock();
+        try {
+            Map<Long, CachedScore> cached = scoresByJob.get(jobId);
+            if (cached != null) {
+                cached.remove(seekerId);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Drop a seeker's cached scores for every job, when the seeker or their profile is deleted
+     */
+    public void forgetSeeker(Long seekerId) {
+        lock.lock();
+        try {
+            for (Map<Long, CachedScore> cached : scoresByJob.values()) {
+                cached.remove(seekerId);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Map<Long, CachedScore> scoresFor(Long jobId) {
+        lock.lock();
+        try {
+            Map<Long, CachedScore> cached = scoresByJob.computeIfAbsent(jobId, id -> new ConcurrentHashMap<>());
+            Iterator<Long> eldest = scoresByJob.keySet().iterator();
+            while (scoresByJob.size() > maxJobs && eldest.hasNext()) {
+                eldest.next();
+                eldest.remove();
+            }
+            return cached;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static boolean sameValue(String a, String b) {
+        return a != null && b != null && a.trim().equalsIgnoreCase(b.trim());
+    }
+
+    private static boolean locationMatches(String jobLocation, String profileLocation) {
+        if (jobLocation == null || jobLocation.isBlank()) {
+            return false;
+        }
+        String job = jobLocation.trim().toLowerCase();
+        if (job.contains("remote")) {
+            return true;
+        }
+        if (profileLocation == null || profileLocation.isBlank()) {
+            return false;
+        }
+        String seeker = profileLocation.trim().toLowerCase();
+        return job.contains(seeker) || seeker.contains(job);
+    }
+
+    private record CachedScore(LocalDateTime version, double score) {}
+}
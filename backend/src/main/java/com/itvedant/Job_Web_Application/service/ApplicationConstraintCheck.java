@@ -0,0 +1,48 @@
+package com.itvedant.Job_Web_Application.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reports a missing one-application-per-seeker-and-job constraint. ddl-auto only logs a warning
+ * when it cannot add uk_applications_job_seeker over existing duplicates, and without it
+ * createApplication's "already applied" check silently stops working. Removing duplicates means
+ * choosing which application survives, so this only counts them; applications_unique_fix.sql at
+ * the repository root removes them and adds the constraint.
+ */
+@Component
+public class ApplicationConstraintCheck {
+
+    private static final String CONSTRAINT_NAME = "uk_applications_job_seeker";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void checkOnStartup() {
+        try {
+            Integer existing = jdbcTemplate.queryForObject("""
+                    SELECT COUNT(*) FROM information_schema.table_constraints
+                    WHERE table_schema = DATABASE() AND table_name = 'applications' AND constraint_name = ?
+                    """, Integer.class, CONSTRAINT_NAME);
+            if (existing != null && existing > 0) {
+                return;
+            }
+
+            Integer duplicates = jdbcTemplate.queryForObject("""
+                    SELECT COUNT(*) FROM (
+                        SELECT job_id, seeker_id FROM applications
+                        GROUP BY job_id, seeker_id HAVING COUNT(*) > 1
+                    ) AS duplicate_pairs
+                    """, Integer.class);
+            System.err.println("Constraint " + CONSTRAINT_NAME + " is missing and " + duplicates
+                    + " seeker/job pairs have duplicate applications; run applications_unique_fix.sql"
+                    + " to remove them and add the constraint");
+        } catch (Exception e) {
+            System.err.println("Error checking " + CONSTRAINT_NAME + ": " + e.getMessage());
+        }
+    }
+}
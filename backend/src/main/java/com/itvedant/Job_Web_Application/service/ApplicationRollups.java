@@ -0,0 +1,275 @@
+package com.itvedant.Job_Web_Application.service;
+
+import com.itvedant.Job_Web_Application.entities.RecruiterStats;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Hourly and daily application activity per job, kept in application_rollups so recruiter stats
+ * never scan applications. Committed writes are counted into an in-memory buffer that a background
+ * flush adds to the rollup rows with one batched upsert. A slower compaction pass replaces the
+ * closed APPLIED buckets of the last days with a recount from applications, correcting arrivals
+ * the buffer missed or retried (a failed flush, rows written outside the services), and prunes old
+ * hourly rows. Status metrics have no timestamp in applications to recount from, so they rely on
+ * the buffer.
+ */
+@Component
+public class ApplicationRollups {
+
+    public static final String HOUR = "HOUR";
+    public static final String DAY = "DAY";
+    public static final String APPLIED = "APPLIED";
+
+    public static final int MAX_HOURLY_RANGE_DAYS = 31;
+    public static final int MAX_DAILY_RANGE_DAYS = 366;
+
+    private static final int FLUSH_BATCH_SIZE = 500;
+
+    // Buckets younger than this may still receive buffered deltas, so compaction leaves them alone
+    private static final long COMPACTION_GRACE_MINUTES = 15;
+
+    private static final String UPSERT_SQL = """
+            INSERT INTO application_rollups (granularity, bucket_start, job_id, recruiter_id, metric, count)
+            VALUES (?, ?, ?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE count = count + VALUES(count), recruiter_id = VALUES(recruiter_id)
+            """;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${app.rollups.compaction-days:2}")
+    private int compactionDays;
+
+    @Value("${app.rollups.hour-retention-days:35}")
+    private int hourRetentionDays;
+
+    // Recorders share the read lock; the write lock is only taken to swap the buffer out
+    private final ReentrantReadWriteLock swapLock = new ReentrantReadWriteLock();
+    private volatile Map<BucketKey, LongAdder> buffer = new ConcurrentHashMap<>();
+
+    // One flush at a time, so a failed batch is merged back before the next one drains
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    public void recordApplied(Long recruiterId, Long jobId, LocalDateTime when) {
+        AfterCommit.run(() -> add(recruiterId, jobId, APPLIED, when, 1));
+    }
+
+    public void recordStatus(Long recruiterId, Long jobId, ApplicationStatus status, LocalDateTime when) {
+        recordStatuses(List.of(new ApplicationStatusCounters.StatusChange(recruiterId, jobId, null, status)), when);
+    }
+
+    /**
+     * Count every change's target status once, in the buckets containing when
+     */
+    public void recordStatuses(List<ApplicationStatusCounters.StatusChange> changes, LocalDateTime when) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        AfterCommit.run(() -> {
+            for (ApplicationStatusCounters.StatusChange change : changes) {
+                add(change.recruiterId(), change.jobId(), change.to().name(), when, 1);
+            }
+        });
+    }
+
+    /**
+     * A recruiter's rollup rows of one granularity with bucket_start in [from, to). Missing bounds
+     * default to the last day of hours or the last 30 days; ranges are capped per granularity.
+     */
+    public RecruiterStats recruiterStats(Long recruiterId, String granularity, LocalDateTime from, LocalDateTime to) {
+        granularity = granularity == null || granularity.isBlank() ? DAY : granularity.trim().toUpperCase();
+        boolean hourly = HOUR.equals(granularity);
+        if (!hourly && !DAY.equals(granularity)) {
+            throw new IllegalArgumentException("granularity must be HOUR or DAY");
+        }
+        if (to == null) {
+            to = hourly ? LocalDateTime.now().truncatedTo(ChronoUnit.HOURS).plusHours(1)
+                    : LocalDate.now().plusDays(1).atStartOfDay();
+        }
+        if (from == null) {
+            from = hourly ? to.minusDays(1) : to.minusDays(30);
+        }
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("from must be before to");
+        }
+        long maxDays = hourly ? MAX_HOURLY_RANGE_DAYS : MAX_DAILY_RANGE_DAYS;
+        if (from.plusDays(maxDays).isBefore(to)) {
+            throw new IllegalArgumentException("At most " + maxDays + " days per request at " + granularity + " granularity");
+        }
+
+        Map<LocalDateTime, Map<String, Long>> totals = new TreeMap<>();
+        Map<Long, Map<LocalDateTime, Map<String, Long>>> jobs = new TreeMap<>();
+        jdbcTemplate.query("""
+                SELECT job_id, bucket_start, metric, count FROM application_rollups
+                WHERE recruiter_id = ? AND granularity = ? AND bucket_start >= ? AND bucket_start < ?
+                """,
+                rs -> {
+                    LocalDateTime start = rs.getTimestamp("bucket_start").toLocalDateTime();
+                    String metric = rs.getString("metric");
+                    long count = rs.getLong("count");
+                    totals.computeIfAbsent(start, s -> new LinkedHashMap<>()).merge(metric, count, Long::sum);
+                    jobs.computeIfAbsent(rs.getLong("job_id"), id -> new TreeMap<>())
+                            .computeIfAbsent(start, s -> new LinkedHashMap<>()).put(metric, count);
+                },
+                recruiterId, granularity, Timestamp.valueOf(from), Timestamp.valueOf(to));
+
+        Map<Long, List<RecruiterStats.Bucket>> jobSeries = new LinkedHashMap<>();
+        jobs.forEach((jobId, buckets) -> jobSeries.put(jobId, toBuckets(buckets)));
+        return new RecruiterStats(granularity, from, to, toBuckets(totals), jobSeries);
+    }
+
+    /**
+     * Add the buffered deltas to the rollup rows; on failure they go back into the buffer
+     */
+    @Scheduled(fixedDelayString = "${app.rollups.flush-ms:5000}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            Map<BucketKey, LongAdder> drained;
+            swapLock.writeLock().lock();
+            try {
+                if (buffer.isEmpty()) {
+                    return;
+                }
+                drained = buffer;
+                buffer = new ConcurrentHashMap<>();
+            } finally {
+                swapLock.writeLock().unlock();
+            }
+
+            List<Object[]> rows = new ArrayList<>(drained.size());
+            drained.forEach((key, count) -> {
+                long delta = count.sum();
+                if (delta != 0) {
+                    rows.add(new Object[]{key.granularity(), Timestamp.valueOf(key.bucketStart()), key.jobId(),
+                            key.recruiterId(), key.metric(), delta});
+                }
+            });
+            try {
+                // One transaction, so a failed flush leaves nothing behind and the retry counts once
+                transactionTemplate.executeWithoutResult(tx ->
+                        jdbcTemplate.batchUpdate(UPSERT_SQL, rows, FLUSH_BATCH_SIZE, (statement, row) -> {
+                            for (int i = 0; i < row.length; i++) {
+                                statement.setObject(i + 1, row[i]);
+                            }
+                        }));
+            } catch (Exception e) {
+                System.err.println("Error flushing application rollups, retrying later: " + e.getMessage());
+                swapLock.readLock().lock();
+                try {
+                    drained.forEach((key, count) -> buffer.computeIfAbsent(key, k -> new LongAdder()).add(count.sum()));
+                } finally {
+                    swapLock.readLock().unlock();
+                }
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    /**
+     * Replace the closed APPLIED buckets of the last compactionDays with a recount from
+     * applications, then drop hourly rows past retention (daily rows are kept)
+     */
+    @Scheduled(initialDelayString = "${app.rollups.compaction-ms:3600000}",
+            fixedDelayString = "${app.rollups.compaction-ms:3600000}")
+    public void compact() {
+        // Held throughout, so no flush adds buffered deltas to buckets while they are replaced
+        flushLock.lock();
+        try {
+            flush();
+            LocalDateTime closedBefore = LocalDateTime.now().minusMinutes(COMPACTION_GRACE_MINUTES);
+            LocalDateTime hoursUntil = closedBefore.truncatedTo(ChronoUnit.HOURS);
+            LocalDateTime daysUntil = closedBefore.toLocalDate().atStartOfDay();
+            LocalDateTime since = daysUntil.minusDays(compactionDays);
+
+            int hours = compactApplied(HOUR, "DATE_FORMAT(a.applied_date, '%Y-%m-%d %H:00:00')", since, hoursUntil);
+            int days = compactApplied(DAY, "DATE(a.applied_date)", since, daysUntil);
+            int pruned = jdbcTemplate.update("DELETE FROM application_rollups WHERE granularity = ? AND bucket_start < ?",
+                    HOUR, Timestamp.valueOf(hoursUntil.minusDays(hourRetentionDays)));
+            System.out.println("Application rollups compacted: " + hours + " hourly and " + days
+                    + " daily rows recounted, " + pruned + " hourly rows pruned");
+        } catch (Exception e) {
+            System.err.println("Error compacting application rollups: " + e.getMessage());
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    // Closed buckets only. The recount already includes every committed application, so APPLIED
+    // deltas still buffered for those buckets (merged back after a failed flush) are dropped.
+    private int compactApplied(String granularity, String bucketExpression, LocalDateTime since, LocalDateTime until) {
+        if (!since.isBefore(until)) {
+            return 0;
+        }
+        int recounted = jdbcTemplate.update("""
+                INSERT INTO application_rollups (granularity, bucket_start, job_id, recruiter_id, metric, count)
+                SELECT * FROM (
+                    SELECT ? AS granularity, %s AS bucket, a.job_id, j.recruiter_id, ? AS metric, COUNT(*) AS applied
+                    FROM applications a
+                    JOIN jobs j ON a.job_id = j.id
+                    WHERE a.applied_date >= ? AND a.applied_date < ?
+                    GROUP BY bucket, a.job_id, j.recruiter_id
+                ) AS recount
+                ON DUPLICATE KEY UPDATE count = recount.applied
+                """.formatted(bucketExpression),
+                granularity, APPLIED, Timestamp.valueOf(since), Timestamp.valueOf(until));
+        swapLock.readLock().lock();
+        try {
+            buffer.keySet().removeIf(key -> key.granularity().equals(granularity) && key.metric().equals(APPLIED)
+                    && !key.bucketStart().isBefore(since) && key.bucketStart().isBefore(until));
+        } finally {
+            swapLock.readLock().unlock();
+        }
+        return recounted;
+    }
+
+    private void add(Long recruiterId, Long jobId, String metric, LocalDateTime when, long delta) {
+        LocalDateTime hour = when.truncatedTo(ChronoUnit.HOURS);
+        LocalDateTime day = when.toLocalDate().atStartOfDay();
+        swapLock.readLock().lock();
+        try {
+            Map<BucketKey, LongAdder> current = buffer;
+            current.computeIfAbsent(new BucketKey(HOUR, hour, jobId, recruiterId, metric), k -> new LongAdder()).add(delta);
+            current.computeIfAbsent(new BucketKey(DAY, day, jobId, recruiterId, metric), k -> new LongAdder()).add(delta);
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    private static List<RecruiterStats.Bucket> toBuckets(Map<LocalDateTime, Map<String, Long>> buckets) {
+        List<RecruiterStats.Bucket> result = new ArrayList<>(buckets.size());
+        buckets.forEach((start, counts) -> result.add(new RecruiterStats.Bucket(start, counts)));
+        return result;
+    }
+
+    private record BucketKey(String granularity, LocalDateTime bucketStart, Long jobId, Long recruiterId,
+                             String metric) {}
+}
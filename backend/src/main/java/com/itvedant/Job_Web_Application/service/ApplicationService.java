@@ -1,139 +1,482 @@
 package com.itvedant.Job_Web_Application.service;
 
 import com.itvedant.Job_Web_Application.entities.Application;
+import com.itvedant.Job_Web_Application.entities.ApplicationDetailView;
+import com.itvedant.Job_Web_Application.entities.ApplicationStatusChange;
+import com.itvedant.Job_Web_Application.entities.BulkStatusUpdateResult;
 import com.itvedant.Job_Web_Application.entities.Job;
-import com.itvedant.Job_Web_Application.entities.Seeker;
+import com.itvedant.Job_Web_Application.entities.Profile;
+import com.itvedant.Job_Web_Application.entities.RankedApplicant;
+import com.itvedant.Job_Web_Application.entities.RankedApplicantPage;
+import com.itvedant.Job_Web_Application.entities.RecruiterApplicationView;
+import com.itvedant.Job_Web_Application.entities.RecruiterInboxEntry;
+import com.itvedant.Job_Web_Application.entities.RecruiterInboxPage;
+import com.itvedant.Job_Web_Application.entities.SeekerApplicationView;
 import com.itvedant.Job_Web_Application.repository.ApplicationRepository;
 import com.itvedant.Job_Web_Application.repository.JobRepository;
-import com.itvedant.Job_Web_Application.repository.SeekerRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.BufferedWriter;
 import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
 
 @Service
 public class ApplicationService {
 
-    @Autowired
-    private ApplicationRepository applicationRepository;
+    public static final int DEFAULT_RANKED_PAGE_SIZE = 20;
+    public static final int MAX_RANKED_PAGE_SIZE = 100;
+    public static final int DEFAULT_INBOX_PAGE_SIZE = 20;
+    public static final int MAX_INBOX_PAGE_SIZE = 100;
 
-    @Autowired
-    private JobRepository jobRepository;
+    public static final int MAX_BULK_STATUS_UPDATES = 5000;
 
-    @Autowired
-    private SeekerRepository seekerRepository;
+    public static final String EXPORT_CSV = "csv";
+    public static final String EXPORT_NDJSON = "ndjson";
 
-    @Autowired
-    private JdbcTemplate jdbcTemplate;
+    private static final String[] EXPORT_COLUMNS = {
+            "application_id", "status", "applied_date", "resume_url",
+            "job_id", "job_title", "job_company", "job_location", "job_type",
+            "seeker_id", "seeker_name", "seeker_email",
+            "profile_headline", "profile_location", "skills", "education", "experience_level", "phone_number"
+    };
 
-    /**
-     * Get all applications for jobs posted by a specific recruiter
-     */
-    public List<Application> getApplicationsByRecruiterId(Long recruiterId) {
-        return applicationRepository.findByRecruiterId(recruiterId);
-    }
+    // Connector/J only streams rows one at a time, instead of buffering the whole result, at this fetch size
+    private static final int EXPORT_FETCH_SIZE = Integer.MIN_VALUE;
+    private static final int EXPORT_FLUSH_ROWS = 500;
 
-    /**
-     * Get all applications for jobs posted by a specific recruiter with detailed information
-     */
-    public List<Map<String, Object>> getApplicationsWithDetails(Long recruiterId) {
-        String sql = """
-            SELECT 
+    // Keeps IN lists well under the database's packet and placeholder limits
+    private static final int BULK_CHUNK_SIZE = 1000;
+
+    // Applications of a recruiter joined with job, seeker and profile; shared by the inbox and export
+    private static final String INBOX_SQL = """
+            SELECT
                 a.id as application_id,
                 a.status as application_status,
+                a.version,
                 a.applied_date,
                 a.resume_url,
                 j.id as job_id,
                 j.title as job_title,
                 j.company as job_company,
                 j.location as job_location,
-                j.salary as job_salary,
-                j.description as job_description,
+                j.job_type as job_type,
                 s.id as seeker_id,
                 s.name as seeker_name,
                 s.email as seeker_email,
-                s.phone as seeker_phone
+                p.id as profile_id,
+                p.profile_headline,
+                p.location as profile_location,
+                p.skills,
+                p.education,
+                p.experience_level,
+                p.phone_number
             FROM applications a
             JOIN jobs j ON a.job_id = j.id
             JOIN seekers s ON a.seeker_id = s.id
+            LEFT JOIN profiles p ON p.seeker_id = s.id
             WHERE j.recruiter_id = ?
-            ORDER BY a.applied_date DESC
             """;
-        
-        return jdbcTemplate.queryForList(sql, recruiterId);
+
+    private static final String STATUS_ROWS_SQL =
+            "SELECT a.id, a.job_id, a.status, a.version, j.recruiter_id FROM applications a JOIN jobs j ON a.job_id = j.id";
+
+    // Bumped after every committed application write; seeded with the boot time
+    private final AtomicLong applicationsVersion = new AtomicLong(System.currentTimeMillis());
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ApplicantRanker applicantRanker;
+
+    @Autowired
+    private SeekerJobMembershipCache membershipCache;
+
+    @Autowired
+    private ApplicationStatusCounters statusCounters;
+
+    @Autowired
+    private JobCache jobCache;
+
+    @Autowired
+    private ApplicationRollups rollups;
+
+    @Autowired
+    private JobEngagementCounters engagementCounters;
+
+    @Autowired
+    private TrendingJobs trendingJobs;
+
+    @Autowired
+    private JobFunnels jobFunnels;
+
+    /**
+     * Get all applications for jobs posted by a specific recruiter
+     */
+    public List<RecruiterApplicationView> getApplicationsByRecruiterId(Long recruiterId) {
+        return applicationRepository.findRecruiterViewsByRecruiterId(recruiterId);
+    }
+
+    /**
+     * One page of a recruiter's inbox: applications with job, seeker and profile details from a
+     * single join, ordered by applied date, optionally limited to one status. Per-status counts
+     * over the whole inbox come from the in-memory status counters. A client that dropped rows
+     * from a filtered view can pass the exact offset to continue from instead of a page number.
+     */
+    public RecruiterInboxPage getApplicationsWithDetails(Long recruiterId, String status, String order,
+                                                         int page, int size, Long offset) {
+        int pageSize = Math.max(1, Math.min(size, MAX_INBOX_PAGE_SIZE));
+        int pageNumber = Math.max(0, page);
+        long rowOffset = offset != null ? Math.max(0, offset) : (long) pageNumber * pageSize;
+        ApplicationStatus statusFilter = status == null || status.isBlank() || status.equalsIgnoreCase("ALL")
+                ? null : ApplicationStatus.valueOf(status.trim().toUpperCase());
+        String direction = order == null || order.isBlank() ? "DESC" : order.trim().toUpperCase();
+        if (!direction.equals("DESC") && !direction.equals("ASC")) {
+            throw new IllegalArgumentException("Invalid order: " + order);
+        }
+
+        Map<String, Long> statusCounts = statusCounters.recruiterStatusCounts(recruiterId);
+        long total = 0;
+        for (long count : statusCounts.values()) {
+            total += count;
+        }
+        if (statusFilter != null) {
+            total = statusCounts.get(statusFilter.name());
+        }
+
+        String sql = INBOX_SQL
+            + (statusFilter == null ? "" : " AND a.status = ?")
+            + " ORDER BY a.applied_date " + direction + ", a.id " + direction
+            + " LIMIT ? OFFSET ?";
+
+        List<Object> args = new ArrayList<>();
+        args.add(recruiterId);
+        if (statusFilter != null) {
+            args.add(statusFilter.name());
+        }
+        args.add(pageSize);
+        args.add(rowOffset);
+
+        List<RecruiterInboxEntry> applications = jdbcTemplate.query(sql,
+                (rs, rowNum) -> toInboxEntry(rs), args.toArray());
+
+        return new RecruiterInboxPage(applications, statusCounts, total, pageNumber, pageSize);
+    }
+
+    /**
+     * Write all of a recruiter's applications, newest first, as CSV or NDJSON. Rows are read from a
+     * streaming cursor and written as they arrive, so memory stays flat whatever the row count.
+     */
+    public void exportApplications(Long recruiterId, String format, OutputStream out) throws IOException {
+        boolean csv = format.equals(EXPORT_CSV);
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        JsonGenerator json = csv ? null : objectMapper.getFactory().createGenerator(writer)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        if (json != null) {
+            // Rows are separated by the newline written below, not Jackson's default space
+            json.setRootValueSeparator(null);
+        }
+        // Flushing is batched below; by default Jackson would flush after every row
+        ObjectWriter rowWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        if (csv) {
+            writer.write(String.join(",", EXPORT_COLUMNS));
+            writer.write("\n");
+            writer.flush();
+        }
+
+        int[] rows = {0};
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    INBOX_SQL + " ORDER BY a.applied_date DESC, a.id DESC",
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(EXPORT_FETCH_SIZE);
+            statement.setLong(1, recruiterId);
+            return statement;
+        }, rs -> {
+            RecruiterInboxEntry entry = toInboxEntry(rs);
+            try {
+                if (csv) {
+                    writeCsvRow(writer, entry);
+                } else {
+                    rowWriter.writeValue(json, entry);
+                    json.writeRaw('\n');
+                }
+                // Push what we have to the client rather than waiting for the query to finish
+                if (++rows[0] % EXPORT_FLUSH_ROWS == 0) {
+                    if (json != null) {
+                        json.flush();
+                    }
+                    writer.flush();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+
+        if (json != null) {
+            json.flush();
+        }
+        writer.flush();
     }
 
     /**
      * Get all applications for a specific job
      */
-    public List<Application> getApplicationsByJobId(Long jobId) {
-        return applicationRepository.findByJobId(jobId);
+    public List<RecruiterApplicationView> getApplicationsByJobId(Long jobId) {
+        return applicationRepository.findRecruiterViewsByJobId(jobId);
     }
 
     /**
-     * Get all applications by a specific seeker
+     * Applicants for a job ordered by how well their profile matches it, best first
      */
-    public List<Application> getApplicationsBySeekerId(Long seekerId) {
-        List<Application> applications = applicationRepository.findBySeekerId(seekerId);
+    public RankedApplicantPage getRankedApplicants(Long jobId, int page, int size) {
+        Job job = jobRepository.findById(jobId)
+                .orElseThrow(() -> new RuntimeException("Job not found"));
+        int pageSize = Math.max(1, Math.min(size, MAX_RANKED_PAGE_SIZE));
+        int pageNumber = Math.max(0, page);
+
+        List<Application> applications = applicationRepository.findByJobIdWithProfiles(jobId);
+        List<Long> seekerIds = new ArrayList<>(applications.size());
+        List<Profile> profiles = new ArrayList<>(applications.size());
+        for (Application application : applications) {
+            seekerIds.add(application.getSeeker() == null ? null : application.getSeeker().getId());
+            profiles.add(application.getSeeker() == null ? null : application.getSeeker().getProfile());
+        }
+        double[] scores = applicantRanker.score(job, seekerIds, profiles);
 
-        // Debug logging
-        System.out.println("Found " + applications.size() + " applications for seeker: " + seekerId);
-        for (Application app : applications) {
-            System.out.println("Application ID: " + app.getId());
-            System.out.println("Job: " + (app.getJob() != null ? app.getJob().getTitle() : "NULL"));
-            System.out.println("Job Company: " + (app.getJob() != null ? app.getJob().getCompany() : "NULL"));
-            System.out.println("Job Location: " + (app.getJob() != null ? app.getJob().getLocation() : "NULL"));
-            System.out.println("---");
+        // Best score first, earlier applications first on ties
+        Integer[] order = new Integer[applications.size()];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
         }
+        Arrays.sort(order, Comparator.<Integer>comparingDouble(i -> -scores[i])
+                .thenComparing(i -> applications.get(i).getId()));
+
+        int from = (int) Math.min(order.length, (long) pageNumber * pageSize);
+        int to = Math.min(order.length, from + pageSize);
+        List<RankedApplicant> ranked = new ArrayList<>(to - from);
+        for (int k = from; k < to; k++) {
+            int i = order[k];
+            ranked.add(new RankedApplicant(applications.get(i), profiles.get(i), scores[i]));
+        }
+        return new RankedApplicantPage(ranked, order.length, pageNumber, pageSize);
+    }
 
+    /**
+     * Get all applications by a specific seeker
+     */
+    public List<SeekerApplicationView> getApplicationsBySeekerId(Long seekerId) {
+        List<SeekerApplicationView> applications = applicationRepository.findSeekerViewsBySeekerId(seekerId);
+        System.out.println("Found " + applications.size() + " applications for seeker: " + seekerId);
         return applications;
     }
 
     /**
-     * Create a new application
+     * Create a new application. The job normally comes from the read cache, so applying costs a
+     * single INSERT ... SELECT that also checks the job and seeker still exist; the unique
+     * (job_id, seeker_id) index turns a repeated or concurrent second apply into "already applied".
      */
-    public Application createApplication(Long jobId, Long seekerId, String coverLetter, String resumeUrl) {
-        // Check if job exists
-        Optional<Job> jobOpt = jobRepository.findById(jobId);
-        if (!jobOpt.isPresent()) {
+    public SeekerApplicationView createApplication(Long jobId, Long seekerId, String coverLetter, String resumeUrl) {
+        Job job = jobCache.getJob(jobId, () -> jobRepository.findById(jobId).orElse(null));
+        if (job == null) {
             throw new RuntimeException("Job not found");
         }
 
-        // Check if seeker exists
-        Optional<Seeker> seekerOpt = seekerRepository.findById(seekerId);
-        if (!seekerOpt.isPresent()) {
-            throw new RuntimeException("Seeker not found");
-        }
-
-        // Check if seeker has already applied to this job
-        if (applicationRepository.existsByJobIdAndSeekerId(jobId, seekerId)) {
+        LocalDateTime appliedDate = LocalDateTime.now();
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        int inserted;
+        try {
+            inserted = jdbcTemplate.update(connection -> {
+                PreparedStatement statement = connection.prepareStatement("""
+                        INSERT INTO applications (job_id, seeker_id, status, applied_date, resume_url)
+                        SELECT j.id, s.id, ?, ?, ? FROM seekers s JOIN jobs j ON j.id = ? WHERE s.id = ?
+                        """, Statement.RETURN_GENERATED_KEYS);
+                statement.setString(1, ApplicationStatus.PENDING.name());
+                statement.setTimestamp(2, Timestamp.valueOf(appliedDate));
+                statement.setString(3, resumeUrl);
+                statement.setLong(4, jobId);
+                statement.setLong(5, seekerId);
+                return statement;
+            }, keyHolder);
+        } catch (DuplicateKeyException e) {
             throw new RuntimeException("You have already applied to this job");
         }
+        if (inserted == 0) {
+            // The cached job may have been deleted in the meantime
+            throw new RuntimeException(jobRepository.existsById(jobId) ? "Seeker not found" : "Job not found");
+        }
 
-        Job job = jobOpt.get();
-        Seeker seeker = seekerOpt.get();
-
-        Application application = new Application(job, seeker, resumeUrl);
-        return applicationRepository.save(application);
+        membershipCache.markApplied(seekerId, jobId, true);
+        statusCounters.recordApplied(recruiterIdOf(job), jobId, ApplicationStatus.PENDING);
+        rollups.recordApplied(recruiterIdOf(job), jobId, appliedDate);
+        engagementCounters.recordApply(jobId);
+        trendingJobs.recordApply(jobId);
+        jobFunnels.invalidate(jobId);
+        bumpVersion();
+        return new SeekerApplicationView(keyHolder.getKey().longValue(), ApplicationStatus.PENDING, appliedDate,
+                resumeUrl, job.getId(), job.getTitle(), job.getCompany(), job.getLocation(), job.getJobType(),
+                job.getExperienceLevel(), job.getSalaryRange(), job.getDescription());
     }
 
     /**
-     * Update application status
+     * Update application status with one conditional UPDATE, without loading the job and seeker.
+     * When expectedVersion is given it must match the stored version; either way the change only
+     * applies if nobody changed the application since it was read. Moves the transition table does
+     * not allow are refused.
      */
-    public Application updateApplicationStatus(Long applicationId, String status) {
-        Optional<Application> applicationOpt = applicationRepository.findById(applicationId);
-        if (!applicationOpt.isPresent()) {
+    @Transactional
+    public ApplicationStatusChange updateApplicationStatus(Long applicationId, String status, Long expectedVersion) {
+        ApplicationStatus target = ApplicationStatus.valueOf(status.trim().toUpperCase());
+        List<StatusRow> rows = jdbcTemplate.query(STATUS_ROWS_SQL + " WHERE a.id = ?",
+                (rs, rowNum) -> toStatusRow(rs), applicationId);
+        if (rows.isEmpty()) {
             throw new RuntimeException("Application not found");
         }
+        StatusRow row = rows.get(0);
+        if (expectedVersion != null && expectedVersion != row.version()) {
+            throw new OptimisticLockingFailureException("Application was changed by someone else, reload and try again");
+        }
+        if (row.status() == target) {
+            return new ApplicationStatusChange(applicationId, row.status(), target, row.version());
+        }
+        if (!row.status().canMoveTo(target)) {
+            throw new IllegalStateException("Cannot change application from " + row.status() + " to " + target);
+        }
 
-        Application application = applicationOpt.get();
-        application.setStatus(ApplicationStatus.valueOf(status.toUpperCase()));
-        return applicationRepository.save(application);
+        int updated = applicationRepository.updateStatusIfCurrent(applicationId, target, row.version(),
+                ApplicationStatus.allowedFrom(target));
+        if (updated == 0) {
+            throw new OptimisticLockingFailureException("Application was changed by someone else, reload and try again");
+        }
+        statusCounters.recordStatusChange(row.recruiterId(), row.jobId(), row.status(), target);
+        rollups.recordStatus(row.recruiterId(), row.jobId(), target, LocalDateTime.now());
+        jobFunnels.invalidate(row.jobId());
+        bumpVersion();
+        return new ApplicationStatusChange(applicationId, row.status(), target, row.version() + 1);
+    }
+
+    /**
+     * Move many applications to one status in a single transaction: either the given ids, or all
+     * applications of a job (optionally only those currently in fromStatus). Rows are locked and
+     * read once, then changed with set-based UPDATEs; counters and versions are updated once.
+     * Rows the transition table does not allow to move are left alone and reported as such.
+     * Returns the outcome for every requested id, or every matched id when selecting by job.
+     */
+    @Transactional
+    public BulkStatusUpdateResult updateApplicationStatuses(List<Long> applicationIds, Long jobId,
+                                                           String fromStatus, String status) {
+        ApplicationStatus target = ApplicationStatus.valueOf(status.trim().toUpperCase());
+        Map<Long, String> results = new LinkedHashMap<>();
+        List<StatusRow> rows = new ArrayList<>();
+
+        if (applicationIds != null && !applicationIds.isEmpty()) {
+            if (applicationIds.size() > MAX_BULK_STATUS_UPDATES) {
+                throw new IllegalArgumentException("At most " + MAX_BULK_STATUS_UPDATES + " applications per request");
+            }
+            for (Long id : applicationIds) {
+                if (id != null) {
+                    results.put(id, BulkStatusUpdateResult.NOT_FOUND);
+                }
+            }
+            List<Long> ids = new ArrayList<>(results.keySet());
+            for (int from = 0; from < ids.size(); from += BULK_CHUNK_SIZE) {
+                List<Long> chunk = ids.subList(from, Math.min(ids.size(), from + BULK_CHUNK_SIZE));
+                rows.addAll(jdbcTemplate.query(STATUS_ROWS_SQL + " WHERE a.id IN (" + placeholders(chunk.size())
+                        + ") FOR UPDATE", (rs, rowNum) -> toStatusRow(rs), chunk.toArray()));
+            }
+        } else if (jobId != null) {
+            // One row past the cap is enough to refuse, without locking all of a large job's rows
+            String limit = " LIMIT " + (MAX_BULK_STATUS_UPDATES + 1) + " FOR UPDATE";
+            if (fromStatus == null || fromStatus.isBlank()) {
+                rows.addAll(jdbcTemplate.query(STATUS_ROWS_SQL + " WHERE a.job_id = ?" + limit,
+                        (rs, rowNum) -> toStatusRow(rs), jobId));
+            } else {
+                ApplicationStatus filter = ApplicationStatus.valueOf(fromStatus.trim().toUpperCase());
+                rows.addAll(jdbcTemplate.query(STATUS_ROWS_SQL + " WHERE a.job_id = ? AND a.status = ?" + limit,
+                        (rs, rowNum) -> toStatusRow(rs), jobId, filter.name()));
+            }
+            if (rows.size() > MAX_BULK_STATUS_UPDATES) {
+                throw new IllegalArgumentException("At most " + MAX_BULK_STATUS_UPDATES + " applications per request");
+            }
+        } else {
+            throw new IllegalArgumentException("Either applicationIds or jobId is required");
+        }
+
+        List<Long> changedIds = new ArrayList<>();
+        List<ApplicationStatusCounters.StatusChange> changes = new ArrayList<>();
+        for (StatusRow row : rows) {
+            if (row.status() == target) {
+                results.put(row.id(), BulkStatusUpdateResult.UNCHANGED);
+            } else if (!row.status().canMoveTo(target)) {
+                results.put(row.id(), BulkStatusUpdateResult.NOT_ALLOWED);
+            } else {
+                results.put(row.id(), BulkStatusUpdateResult.UPDATED);
+                changedIds.add(row.id());
+                changes.add(new ApplicationStatusCounters.StatusChange(row.recruiterId(), row.jobId(), row.status(), target));
+            }
+        }
+
+        // The rows are locked, so one UPDATE per chunk cannot overwrite a concurrent change
+        for (int from = 0; from < changedIds.size(); from += BULK_CHUNK_SIZE) {
+            List<Long> chunk = changedIds.subList(from, Math.min(changedIds.size(), from + BULK_CHUNK_SIZE));
+            List<Object> args = new ArrayList<>(chunk.size() + 1);
+            args.add(target.name());
+            args.addAll(chunk);
+            jdbcTemplate.update("UPDATE applications SET status = ?, version = version + 1 WHERE id IN ("
+                    + placeholders(chunk.size()) + ")",
+                    args.toArray());
+        }
+
+        if (!changedIds.isEmpty()) {
+            statusCounters.recordStatusChanges(changes);
+            rollups.recordStatuses(changes, LocalDateTime.now());
+            jobFunnels.invalidateAll(changes.stream().map(ApplicationStatusCounters.StatusChange::jobId)
+                    .collect(Collectors.toSet()));
+            bumpVersion();
+        }
+        return new BulkStatusUpdateResult(target.name(), changedIds.size(), results);
     }
 
     /**
@@ -144,21 +487,28 @@ public class ApplicationService {
         if (!applicationOpt.isPresent()) {
             throw new RuntimeException("Application not found");
         }
+        Application application = applicationOpt.get();
         applicationRepository.deleteById(applicationId);
+        membershipCache.markApplied(application.getSeeker().getId(), application.getJob().getId(), false);
+        statusCounters.recordRemoved(recruiterIdOf(application.getJob()), application.getJob().getId(),
+                application.getStatus());
+        jobFunnels.invalidate(application.getJob().getId());
+        applicantRanker.forgetApplicant(application.getJob().getId(), application.getSeeker().getId());
+        bumpVersion();
     }
 
     /**
      * Get application by ID
      */
-    public Optional<Application> getApplicationById(Long applicationId) {
-        return applicationRepository.findById(applicationId);
+    public Optional<ApplicationDetailView> getApplicationById(Long applicationId) {
+        return applicationRepository.findDetailViewById(applicationId);
     }
 
     /**
      * Get applications by status
      */
-    public List<Application> getApplicationsByStatus(String status) {
-        return applicationRepository.findByStatus(status);
+    public List<RecruiterApplicationView> getApplicationsByStatus(String status) {
+        return applicationRepository.findRecruiterViewsByStatus(ApplicationStatus.valueOf(status.trim().toUpperCase()));
     }
 
     /**
@@ -172,21 +522,28 @@ public class ApplicationService {
      * Count applications for a specific job
      */
     public long countApplicationsByJobId(Long jobId) {
-        return applicationRepository.countByJobId(jobId);
+        return statusCounters.countByJob(jobId);
     }
 
     /**
      * Count applications by status for a specific recruiter
      */
     public long countApplicationsByRecruiterIdAndStatus(Long recruiterId, String status) {
-        return applicationRepository.countByRecruiterIdAndStatus(recruiterId, status);
+        return statusCounters.countByRecruiter(recruiterId, ApplicationStatus.valueOf(status.trim().toUpperCase()));
     }
 
     /**
      * Check if a seeker has already applied to a job
      */
     public boolean hasSeekerAppliedToJob(Long jobId, Long seekerId) {
-        return applicationRepository.existsByJobIdAndSeekerId(jobId, seekerId);
+        return membershipCache.hasApplied(seekerId, jobId);
+    }
+
+    /**
+     * Change counter for applications, used to build ETags for reads that include their counts
+     */
+    public long getApplicationsVersion() {
+        return applicationsVersion.get();
     }
 
     /**
@@ -223,4 +580,79 @@ public class ApplicationService {
             throw new RuntimeException("Error uploading resume: " + e.getMessage());
         }
     }
-}
\ No newline at end of file
+
+    private static StatusRow toStatusRow(ResultSet rs) throws SQLException {
+        return new StatusRow(rs.getLong("id"), rs.getLong("job_id"), rs.getObject("recruiter_id", Long.class),
+                ApplicationStatus.valueOf(rs.getString("status")), rs.getLong("version"));
+    }
+
+    private static String placeholders(int count) {
+        return String.join(",", Collections.nCopies(count, "?"));
+    }
+
+    private static RecruiterInboxEntry toInboxEntry(ResultSet rs) throws SQLException {
+        Timestamp appliedDate = rs.getTimestamp("applied_date");
+        RecruiterInboxEntry.ProfileInfo profile = rs.getObject("profile_id") == null ? null
+                : new RecruiterInboxEntry.ProfileInfo(rs.getString("profile_headline"),
+                        rs.getString("profile_location"), rs.getString("skills"), rs.getString("education"),
+                        rs.getString("experience_level"), rs.getString("phone_number"));
+        return new RecruiterInboxEntry(
+                rs.getLong("application_id"),
+                ApplicationStatus.valueOf(rs.getString("application_status")),
+                rs.getLong("version"),
+                appliedDate == null ? null : appliedDate.toLocalDateTime(),
+                rs.getString("resume_url"),
+                new RecruiterApplicationView.JobInfo(rs.getLong("job_id"), rs.getString("job_title"),
+                        rs.getString("job_company"), rs.getString("job_location"), rs.getString("job_type")),
+                new RecruiterApplicationView.SeekerInfo(rs.getLong("seeker_id"), rs.getString("seeker_name"),
+                        rs.getString("seeker_email")),
+                profile);
+    }
+
+    private static void writeCsvRow(Writer writer, RecruiterInboxEntry entry) throws IOException {
+        RecruiterInboxEntry.ProfileInfo profile = entry.profile();
+        Object[] values = {
+                entry.id(), entry.status(), entry.appliedDate(), entry.resumeUrl(),
+                entry.job().id(), entry.job().title(), entry.job().company(), entry.job().location(),
+                entry.job().jobType(),
+                entry.seeker().id(), entry.seeker().name(), entry.seeker().email(),
+                profile == null ? null : profile.profileHeadline(),
+                profile == null ? null : profile.location(),
+                profile == null ? null : profile.skills(),
+                profile == null ? null : profile.education(),
+                profile == null ? null : profile.experienceLevel(),
+                profile == null ? null : profile.phoneNumber()
+        };
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            if (values[i] != null) {
+                writer.write(csvField(values[i].toString()));
+            }
+        }
+        writer.write("\n");
+    }
+
+    // Quote fields containing separators, quotes or line breaks; embedded quotes are doubled.
+    // Fields a spreadsheet would read as a formula get a leading apostrophe so they stay text.
+    private static String csvField(String value) {
+        if (!value.isEmpty() && "=+-@\t\r".indexOf(value.charAt(0)) >= 0) {
+            value = "'" + value;
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    private static Long recruiterIdOf(Job job) {
+        return job.getRecruiter() == null ? null : job.getRecruiter().getId();
+    }
+
+    private record StatusRow(Long id, Long jobId, Long recruiterId, ApplicationStatus status, long version) {}
+
+    private void bumpVersion() {
+        AfterCommit.run(applicationsVersion::incrementAndGet);
+    }
+}
@@ -1,9 +1,42 @@
 package com.itvedant.Job_Web_Application.service;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 public enum ApplicationStatus {
     PENDING,
     REVIEWING,
     ACCEPTED,
     REJECTED,
-    WITHDRAWN
-}
\ No newline at end of file
+    WITHDRAWN;
+
+    /**
+     * Statuses an application may move to from this one; a withdrawn application is final
+     */
+    public Set<ApplicationStatus> allowedNext() {
+        return switch (this) {
+            case PENDING -> EnumSet.of(REVIEWING, ACCEPTED, REJECTED, WITHDRAWN);
+            case REVIEWING -> EnumSet.of(PENDING, ACCEPTED, REJECTED, WITHDRAWN);
+            case ACCEPTED -> EnumSet.of(REVIEWING, REJECTED, WITHDRAWN);
+            case REJECTED -> EnumSet.of(REVIEWING, ACCEPTED);
+            case WITHDRAWN -> EnumSet.noneOf(ApplicationStatus.class);
+        };
+    }
+
+    public boolean canMoveTo(ApplicationStatus target) {
+        return allowedNext().contains(target);
+    }
+
+    /**
+     * Statuses from which an application may move to the target
+     */
+    public static Set<ApplicationStatus> allowedFrom(ApplicationStatus target) {
+        Set<ApplicationStatus> sources = EnumSet.noneOf(ApplicationStatus.class);
+        for (ApplicationStatus status : values()) {
+            if (status.canMoveTo(target)) {
+                sources.add(status);
+            }
+        }
+        return sources;
+    }
+}
@@ -0,0 +1,294 @@
+package com.itvedant.Job_Web_Application.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Application counts per job and per recruiter, broken down by status, so count reads never scan
+ * the applications table. ApplicationService and JobService report each committed write; a
+ * periodic pass recounts from the database to correct drift from writes made elsewhere (seeker
+ * deletes cascade to applications without going through the services). Jobs written to while a
+ * recount runs are recounted again on their own, so steady traffic never discards a whole pass.
+ * Until the first pass has loaded, reads fall back to GROUP BY queries.
+ */
+@Component
+public class ApplicationStatusCounters {
+
+    private static final ApplicationStatus[] STATUSES = ApplicationStatus.values();
+
+    // Narrow recounts of jobs written to during the previous round before giving up on them
+    private static final int MAX_DIRTY_ROUNDS = 3;
+
+    private static final String RECOUNT_SQL = """
+            SELECT j.recruiter_id, a.job_id, a.status, COUNT(*) AS applications
+            FROM applications a
+            JOIN jobs j ON a.job_id = j.id
+            """;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // Writers share the read lock; the write lock is only taken to swap in a recount
+    private final ReentrantReadWriteLock swapLock = new ReentrantReadWriteLock();
+
+    private volatile Counts counts = new Counts();
+    private volatile boolean loaded;
+
+    // Jobs written to since the current recount round started; null while no recount runs
+    private volatile Set<Long> dirtyJobs;
+
+    public void recordApplied(Long recruiterId, Long jobId, ApplicationStatus status) {
+        AfterCommit.run(() -> apply(recruiterId, jobId, status, 1));
+    }
+
+    public void recordStatusChange(Long recruiterId, Long jobId, ApplicationStatus from, ApplicationStatus to) {
+        recordStatusChanges(List.of(new StatusChange(recruiterId, jobId, from, to)));
+    }
+
+    /**
+     * Apply a whole batch of status changes at once after commit
+     */
+    public void recordStatusChanges(List<StatusChange> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        AfterCommit.run(() -> {
+            swapLock.readLock().lock();
+            try {
+                Counts current = counts;
+                for (StatusChange change : changes) {
+                    markDirty(change.jobId());
+                    if (change.from() != change.to()) {
+                        current.add(change.recruiterId(), change.jobId(), change.from(), -1);
+                        current.add(change.recruiterId(), change.jobId(), change.to(), 1);
+                    }
+                }
+            } finally {
+                swapLock.readLock().unlock();
+            }
+        });
+    }
+
+    public void recordRemoved(Long recruiterId, Long jobId, ApplicationStatus status) {
+        AfterCommit.run(() -> apply(recruiterId, jobId, status, -1));
+    }
+
+    /**
+     * Drop a deleted job's counts; its applications are deleted with it
+     */
+    public void forgetJob(Long jobId) {
+        AfterCommit.run(() -> {
+            swapLock.readLock().lock();
+            try {
+                markDirty(jobId);
+                Counts current = counts;
+                JobCounts job = current.byJob.remove(jobId);
+                LongAdder[] recruiter = job == null || job.recruiterId() == null
+                        ? null : current.byRecruiter.get(job.recruiterId());
+                if (recruiter != null) {
+                    for (int i = 0; i < STATUSES.length; i++) {
+                        recruiter[i].add(-job.counts()[i].sum());
+                    }
+                }
+            } finally {
+                swapLock.readLock().unlock();
+            }
+        });
+    }
+
+    /**
+     * Count per status for one job, every status present
+     */
+    public Map<String, Long> jobStatusCounts(Long jobId) {
+        if (!loaded) {
+            return queryCounts("SELECT status, COUNT(*) AS applications FROM applications"
+                    + " WHERE job_id = ? GROUP BY status", jobId);
+        }
+        JobCounts job = counts.byJob.get(jobId);
+        return toMap(job == null ? null : job.counts());
+    }
+
+    /**
+     * Count per status over all of a recruiter's jobs, every status present
+     */
+    public Map<String, Long> recruiterStatusCounts(Long recruiterId) {
+        if (!loaded) {
+            return queryCounts("SELECT a.status, COUNT(*) AS applications FROM applications a"
+                    + " JOIN jobs j ON a.job_id = j.id WHERE j.recruiter_id = ? GROUP BY a.status", recruiterId);
+        }
+        return toMap(counts.byRecruiter.get(recruiterId));
+    }
+
+    public long countByJob(Long jobId) {
+        long total = 0;
+        for (long count : jobStatusCounts(jobId).values()) {
+            total += count;
+        }
+        return total;
+    }
+
+    public long countByRecruiter(Long recruiterId, ApplicationStatus status) {
+        return recruiterStatusCounts(recruiterId).get(status.name());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        reconcile();
+    }
+
+    /**
+     * Recount everything with one GROUP BY and swap it in. A job written to during the recount may
+     * or may not be counted with that write, so such jobs are recounted on their own, a few rounds
+     * at most; jobs still busy after that keep their live counts once loaded.
+     */
+    @Scheduled(initialDelayString = "${app.status-counters.reconcile-ms:600000}",
+            fixedDelayString = "${app.status-counters.reconcile-ms:600000}")
+    public void reconcile() {
+        try {
+            Set<Long> touched = startTracking();
+            Map<Long, JobCounts> recount = new ConcurrentHashMap<>();
+            queryJobCounts(RECOUNT_SQL + " GROUP BY j.recruiter_id, a.job_id, a.status", recount);
+
+            for (int round = 0; round < MAX_DIRTY_ROUNDS && !touched.isEmpty(); round++) {
+                List<Long> jobIds = new ArrayList<>(touched);
+                touched = startTracking();
+                for (Long jobId : jobIds) {
+                    recount.remove(jobId);
+                }
+                String in = String.join(",", Collections.nCopies(jobIds.size(), "?"));
+                queryJobCounts(RECOUNT_SQL + " WHERE a.job_id IN (" + in + ") GROUP BY j.recruiter_id, a.job_id, a.status",
+                        recount, jobIds.toArray());
+            }
+
+            swapLock.writeLock().lock();
+            try {
+                Counts live = counts;
+                Counts merged = new Counts();
+                for (Map.Entry<Long, JobCounts> entry : recount.entrySet()) {
+                    if (!loaded || !touched.contains(entry.getKey())) {
+                        merged.put(entry.getKey(), entry.getValue());
+                    }
+                }
+                if (loaded) {
+                    for (Long jobId : touched) {
+                        JobCounts job = live.byJob.get(jobId);
+                        if (job != null) {
+                            merged.put(jobId, job);
+                        }
+                    }
+                }
+                counts = merged;
+                loaded = true;
+                dirtyJobs = null;
+            } finally {
+                swapLock.writeLock().unlock();
+            }
+        } catch (Exception e) {
+            dirtyJobs = null;
+            System.err.println("Error recounting applications: " + e.getMessage());
+        }
+    }
+
+    private void apply(Long recruiterId, Long jobId, ApplicationStatus status, long delta) {
+        swapLock.readLock().lock();
+        try {
+            markDirty(jobId);
+            counts.add(recruiterId, jobId, status, delta);
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    // Callers hold the read lock, so no write slips between a round's set swap and its query
+    private void markDirty(Long jobId) {
+        Set<Long> dirty = dirtyJobs;
+        if (dirty != null) {
+            dirty.add(jobId);
+        }
+    }
+
+    private Set<Long> startTracking() {
+        Set<Long> touched = ConcurrentHashMap.newKeySet();
+        swapLock.writeLock().lock();
+        try {
+            dirtyJobs = touched;
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+        return touched;
+    }
+
+    private void queryJobCounts(String sql, Map<Long, JobCounts> into, Object... args) {
+        jdbcTemplate.query(sql, rs -> {
+            Long recruiterId = rs.getObject("recruiter_id", Long.class);
+            into.computeIfAbsent(rs.getLong("job_id"), id -> new JobCounts(recruiterId, newAdders()))
+                    .counts()[ApplicationStatus.valueOf(rs.getString("status")).ordinal()]
+                    .add(rs.getLong("applications"));
+        }, args);
+    }
+
+    private Map<String, Long> queryCounts(String sql, Long id) {
+        Map<String, Long> result = toMap(null);
+        jdbcTemplate.query(sql, rs -> {
+            result.put(rs.getString("status"), rs.getLong("applications"));
+        }, id);
+        return result;
+    }
+
+    private static Map<String, Long> toMap(LongAdder[] adders) {
+        Map<String, Long> result = new LinkedHashMap<>();
+        for (int i = 0; i < STATUSES.length; i++) {
+            result.put(STATUSES[i].name(), adders == null ? 0L : adders[i].sum());
+        }
+        return result;
+    }
+
+    private static LongAdder[] newAdders() {
+        LongAdder[] adders = new LongAdder[STATUSES.length];
+        for (int i = 0; i < adders.length; i++) {
+            adders[i] = new LongAdder();
+        }
+        return adders;
+    }
+
+    public record StatusChange(Long recruiterId, Long jobId, ApplicationStatus from, ApplicationStatus to) {}
+
+    private record JobCounts(Long recruiterId, LongAdder[] counts) {}
+
+    private static final class Counts {
+        final Map<Long, JobCounts> byJob = new ConcurrentHashMap<>();
+        final Map<Long, LongAdder[]> byRecruiter = new ConcurrentHashMap<>();
+
+        void put(Long jobId, JobCounts job) {
+            byJob.put(jobId, job);
+            if (job.recruiterId() != null) {
+                LongAdder[] recruiter = byRecruiter.computeIfAbsent(job.recruiterId(), id -> newAdders());
+                for (int i = 0; i < STATUSES.length; i++) {
+                    recruiter[i].add(job.counts()[i].sum());
+                }
+            }
+        }
+
+        void add(Long recruiterId, Long jobId, ApplicationStatus status, long delta) {
+            byJob.computeIfAbsent(jobId, id -> new JobCounts(recruiterId, newAdders()))
+                    .counts()[status.ordinal()].add(delta);
+            if (recruiterId != null) {
+                byRecruiter.computeIfAbsent(recruiterId, id -> newAdders())[status.ordinal()].add(delta);
+            }
+        }
+    }
+}
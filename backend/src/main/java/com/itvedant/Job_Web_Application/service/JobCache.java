@@ -0,0 +1,133 @@
+package com.itvedant.Job_Web_Application.service;
+
+import com.itvedant.Job_Web_Application.entities.Job;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Read-through caches in front of JobRepository: job entities by id, and each recruiter's job
+ * ids. JobService invalidates entries on every write. A load that overlaps any invalidation is
+ * served but not stored, so a job deleted mid-read can never be cached.
+ */
+@Component
+public class JobCache {
+
+    // Rough size of a Job entity apart from its strings
+    private static final long JOB_OVERHEAD_BYTES = 240;
+    private static final int AVERAGE_JOB_BYTES = 2048;
+
+    private final TinyLfuCache<Long, Job> jobs;
+    private final TinyLfuCache<Long, long[]> recruiterJobIds;
+
+    // Bumped under the monitor by every invalidation; loads only store if it did not move
+    private long invalidations;
+
+    public JobCache(@Value("${app.job-cache.max-bytes:16777216}") long maxBytes,
+                    @Value("${app.job-cache.recruiter-max-bytes:2097152}") long recruiterMaxBytes) {
+        this.jobs = new TinyLfuCache<>(maxBytes, (int) Math.min(Integer.MAX_VALUE, maxBytes / AVERAGE_JOB_BYTES),
+                JobCache::weigh);
+        this.recruiterJobIds = new TinyLfuCache<>(recruiterMaxBytes,
+                (int) Math.min(Integer.MAX_VALUE, recruiterMaxBytes / 256), ids -> 32 + 8L * ids.length);
+    }
+
+    public Job getJob(Long id, Supplier<Job> loader) {
+        Job cached = jobs.get(id);
+        if (cached != null) {
+            return cached;
+        }
+        long before = invalidationCount();
+        Job loaded = loader.get();
+        if (loaded != null) {
+            synchronized (this) {
+                if (invalidations == before) {
+                    jobs.put(id, loaded);
+                }
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * Cached jobs among the ids, by id; absent ids are left for the caller to load and putJobs
+     */
+    public Map<Long, Job> getJobs(long[] ids) {
+        Map<Long, Job> found = new LinkedHashMap<>();
+        for (long id : ids) {
+            Job job = jobs.get(id);
+            if (job != null) {
+                found.put(id, job);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Store jobs loaded after the given invalidationCount(), unless something was invalidated since
+     */
+    public synchronized void putJobs(List<Job> loaded, long before) {
+        if (invalidations == before) {
+            for (Job job : loaded) {
+                jobs.put(job.getId(), job);
+            }
+        }
+    }
+
+    public synchronized long invalidationCount() {
+        return invalidations;
+    }
+
+    /**
+     * Cached job ids for a recruiter; the jobs themselves are resolved through getJob
+     */
+    public long[] getRecruiterJobIds(Long recruiterId, Supplier<List<Job>> loader) {
+        long[] cached = recruiterJobIds.get(recruiterId);
+        if (cached != null) {
+            return cached;
+        }
+        long before = invalidationCount();
+        List<Job> loaded = loader.get();
+        long[] ids = new long[loaded.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = loaded.get(i).getId();
+        }
+        synchronized (this) {
+            if (invalidations == before) {
+                recruiterJobIds.put(recruiterId, ids);
+            }
+        }
+        putJobs(loaded, before);
+        return ids;
+    }
+
+    public synchronized void invalidateJob(Long id) {
+        invalidations++;
+        jobs.invalidate(id);
+    }
+
+    public synchronized void invalidateRecruiter(Long recruiterId) {
+        invalidations++;
+        recruiterJobIds.invalidate(recruiterId);
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("jobs", jobs.stats());
+        stats.put("recruiterJobIds", recruiterJobIds.stats());
+        return stats;
+    }
+
+    private static long weigh(Job job) {
+        return JOB_OVERHEAD_BYTES + 2L * (length(job.getTitle()) + length(job.getCompany())
+                + length(job.getLocation()) + length(job.getDescription()) + length(job.getSalaryRange())
+                + length(job.getJobType()) + length(job.getExperienceLevel()));
+    }
+
+    private static int length(String value) {
+        return value == null ? 0 : value.length();
+    }
+}
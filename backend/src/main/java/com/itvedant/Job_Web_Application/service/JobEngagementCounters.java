@@ -0,0 +1,153 @@
+package com.itvedant.Job_Web_Application.service;
+
+import com.itvedant.Job_Web_Application.entities.JobStats;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * View, save and apply counts per job without a database write per event. Each job has its own
+ * LongAdders, so concurrent increments land on separate cells instead of contending; recording
+ * an event for a job seen before allocates nothing. A background flush drains the deltas into
+ * job_stats with one batched upsert, so a crash loses at most one flush window.
+ */
+@Component
+public class JobEngagementCounters {
+
+    private static final int FLUSH_BATCH_SIZE = 500;
+
+    // Only jobs that still exist get a row, so a flush racing a job delete leaves no orphan
+    private static final String UPSERT_SQL = """
+            INSERT INTO job_stats (job_id, views, saves, applications, updated_at)
+            SELECT j.id, ?, ?, ?, ? FROM jobs j WHERE j.id = ?
+            ON DUPLICATE KEY UPDATE views = job_stats.views + VALUES(views),
+                saves = job_stats.saves + VALUES(saves),
+                applications = job_stats.applications + VALUES(applications),
+                updated_at = VALUES(updated_at)
+            """;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private final Map<Long, Counters> pending = new ConcurrentHashMap<>();
+
+    // One flush at a time, so failed deltas are added back before the next drain
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    public void recordView(Long jobId) {
+        counters(jobId).views.increment();
+    }
+
+    public void recordSave(Long jobId) {
+        AfterCommit.run(() -> counters(jobId).saves.increment());
+    }
+
+    public void recordApply(Long jobId) {
+        AfterCommit.run(() -> counters(jobId).applications.increment());
+    }
+
+    /**
+     * Drop a deleted job's pending counts and its stored row
+     */
+    public void forgetJob(Long jobId) {
+        pending.remove(jobId);
+        jdbcTemplate.update("DELETE FROM job_stats WHERE job_id = ?", jobId);
+    }
+
+    /**
+     * Stored counts plus whatever has not been flushed yet
+     */
+    public JobStats getStats(Long jobId) {
+        JobStats stats = new JobStats(jobId, 0, 0, 0);
+        jdbcTemplate.query("SELECT views, saves, applications, updated_at FROM job_stats WHERE job_id = ?",
+                rs -> {
+                    stats.setViews(rs.getLong("views"));
+                    stats.setSaves(rs.getLong("saves"));
+                    stats.setApplications(rs.getLong("applications"));
+                    Timestamp updatedAt = rs.getTimestamp("updated_at");
+                    stats.setUpdatedAt(updatedAt == null ? null : updatedAt.toLocalDateTime());
+                },
+                jobId);
+        Counters counters = pending.get(jobId);
+        if (counters != null) {
+            stats.setViews(stats.getViews() + counters.views.sum());
+            stats.setSaves(stats.getSaves() + counters.saves.sum());
+            stats.setApplications(stats.getApplications() + counters.applications.sum());
+        }
+        return stats;
+    }
+
+    /**
+     * Move every pending delta into job_stats; on failure the deltas are added back
+     */
+    @Scheduled(fixedDelayString = "${app.engagement.flush-ms:5000}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            // sumThenReset hands each increment to exactly one flush, even while writers are active
+            List<Object[]> rows = new ArrayList<>();
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            pending.forEach((jobId, counters) -> {
+                long views = counters.views.sumThenReset();
+                long saves = counters.saves.sumThenReset();
+                long applications = counters.applications.sumThenReset();
+                if (views != 0 || saves != 0 || applications != 0) {
+                    rows.add(new Object[]{views, saves, applications, now, jobId});
+                }
+            });
+            if (rows.isEmpty()) {
+                return;
+            }
+
+            try {
+                transactionTemplate.executeWithoutResult(tx ->
+                        jdbcTemplate.batchUpdate(UPSERT_SQL, rows, FLUSH_BATCH_SIZE, (statement, row) -> {
+                            for (int i = 0; i < row.length; i++) {
+                                statement.setObject(i + 1, row[i]);
+                            }
+                        }));
+            } catch (Exception e) {
+                System.err.println("Error flushing job engagement counts, retrying later: " + e.getMessage());
+                for (Object[] row : rows) {
+                    Counters counters = counters((Long) row[4]);
+                    counters.views.add((Long) row[0]);
+                    counters.saves.add((Long) row[1]);
+                    counters.applications.add((Long) row[2]);
+                }
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private Counters counters(Long jobId) {
+        Counters counters = pending.get(jobId);
+        return counters != null ? counters : pending.computeIfAbsent(jobId, id -> new Counters());
+    }
+
+    private static final class Counters {
+        final LongAdder views = new LongAdder();
+        final LongAdder saves = new LongAdder();
+        final LongAdder applications = new LongAdder();
+    }
+}
@@ -0,0 +1,205 @@
+package com.itvedant.Job_Web_Application.service;
+
+import com.itvedant.Job_Web_Application.entities.Job;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Facet counts for the job filter sidebar, computed from compressed per-value bitmaps of job ids.
+ * Each facet is counted against the other active filters, so picking a location still shows
+ * the counts of every other location.
+ */
+@Component
+public class JobFacetIndex {
+
+    public static final String LOCATION = "location";
+    public static final String JOB_TYPE = "jobType";
+    public static final String EXPERIENCE_LEVEL = "experienceLevel";
+    public static final String POSTED_WITHIN = "postedWithin";
+
+    // Posted-date buckets, in days back from today (inclusive)
+    private static final Map<String, Integer> POSTED_BUCKETS = new LinkedHashMap<>();
+    static {
+        POSTED_BUCKETS.put("24h", 1);
+        POSTED_BUCKETS.put("7d", 7);
+        POSTED_BUCKETS.put("30d", 30);
+    }
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final RoaringBitmap all = new RoaringBitmap();
+    private final Map<String, RoaringBitmap> byLocation = new HashMap<>();
+    private final Map<String, RoaringBitmap> byJobType = new HashMap<>();
+    private final Map<String, RoaringBitmap> byExperienceLevel = new HashMap<>();
+    private final TreeMap<Long, RoaringBitmap> byPostedDay = new TreeMap<>();
+
+    // Last indexed values per job, so updates can clear the old bits
+    private final Map<Integer, FacetValues> valuesByJob = new HashMap<>();
+
+    /**
+     * Add or replace a job's facet values
+     */
+    public void index(Job job) {
+        if (job == null || job.getId() == null) {
+            return;
+        }
+        int id = Math.toIntExact(job.getId());
+        FacetValues values = new FacetValues(normalize(job.getLocation()), normalize(job.getJobType()),
+                normalize(job.getExperienceLevel()),
+                job.getPostedDate() == null ? null : job.getPostedDate().toEpochDay());
+
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+            all.add(id);
+            addBit(byLocation, values.location(), id);
+            addBit(byJobType, values.jobType(), id);
+            addBit(byExperienceLevel, values.experienceLevel(), id);
+            if (values.postedDay() != null) {
+                byPostedDay.computeIfAbsent(values.postedDay(), d -> new RoaringBitmap()).add(id);
+            }
+            valuesByJob.put(id, values);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove a job; unknown ids are ignored
+     */
+    public void remove(Long jobId) {
+        if (jobId == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            removeLocked(Math.toIntExact(jobId));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Count every facet value under the given filters. Filter keys are the facet names above;
+     * blank or missing values mean "no filter".
+     */
+    public Map<String, Object> counts(Map<String, String> filters) {
+        LocalDate today = LocalDate.now();
+
+        lock.readLock().lock();
+        try {
+            Map<String, RoaringBitmap> active = new LinkedHashMap<>();
+            putFilter(active, LOCATION, byLocation, filters.get(LOCATION));
+            putFilter(active, JOB_TYPE, byJobType, filters.get(JOB_TYPE));
+            putFilter(active, EXPERIENCE_LEVEL, byExperienceLevel, filters.get(EXPERIENCE_LEVEL));
+            String posted = filters.get(POSTED_WITHIN);
+            if (posted != null && !posted.isBlank()) {
+                Integer days = POSTED_BUCKETS.get(posted.trim());
+                if (days == null) {
+                    throw new IllegalArgumentException("Unknown postedWithin bucket: " + posted);
+                }
+                active.put(POSTED_WITHIN, postedSince(today, days));
+            }
+
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("total", intersectAllExcept(active, null).getCardinality());
+            result.put(LOCATION, countValues(byLocation, intersectAllExcept(active, LOCATION)));
+            result.put(JOB_TYPE, countValues(byJobType, intersectAllExcept(active, JOB_TYPE)));
+            result.put(EXPERIENCE_LEVEL, countValues(byExperienceLevel, intersectAllExcept(active, EXPERIENCE_LEVEL)));
+
+            RoaringBitmap postedBase = intersectAllExcept(active, POSTED_WITHIN);
+            Map<String, Integer> postedCounts = new LinkedHashMap<>();
+            for (Map.Entry<String, Integer> bucket : POSTED_BUCKETS.entrySet()) {
+                postedCounts.put(bucket.getKey(),
+                        RoaringBitmap.andCardinality(postedBase, postedSince(today, bucket.getValue())));
+            }
+            result.put(POSTED_WITHIN, postedCounts);
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static void putFilter(Map<String, RoaringBitmap> active, String facet,
+                                  Map<String, RoaringBitmap> values, String value) {
+        if (value == null || value.isBlank()) {
+            return;
+        }
+        RoaringBitmap bitmap = values.get(normalize(value));
+        active.put(facet, bitmap == null ? new RoaringBitmap() : bitmap);
+    }
+
+    private RoaringBitmap intersectAllExcept(Map<String, RoaringBitmap> active, String excluded) {
+        RoaringBitmap result = null;
+        for (Map.Entry<String, RoaringBitmap> entry : active.entrySet()) {
+            if (entry.getKey().equals(excluded)) {
+                continue;
+            }
+            result = result == null ? entry.getValue() : RoaringBitmap.and(result, entry.getValue());
+        }
+        return result == null ? all : result;
+    }
+
+    private static Map<String, Integer> countValues(Map<String, RoaringBitmap> values, RoaringBitmap base) {
+        Map<String, Integer> counts = new TreeMap<>();
+        for (Map.Entry<String, RoaringBitmap> entry : values.entrySet()) {
+            int count = RoaringBitmap.andCardinality(base, entry.getValue());
+            if (count > 0) {
+                counts.put(entry.getKey(), count);
+            }
+        }
+        return counts;
+    }
+
+    private RoaringBitmap postedSince(LocalDate today, int days) {
+        long from = today.minusDays(days - 1L).toEpochDay();
+        return RoaringBitmap.or(byPostedDay.tailMap(from, true).values().iterator());
+    }
+
+    private static void addBit(Map<String, RoaringBitmap> values, String value, int id) {
+        if (value != null) {
+            values.computeIfAbsent(value, v -> new RoaringBitmap()).add(id);
+        }
+    }
+
+    private static void clearBit(Map<?, RoaringBitmap> values, Object value, int id) {
+        if (value == null) {
+            return;
+        }
+        RoaringBitmap bitmap = values.get(value);
+        if (bitmap != null) {
+            bitmap.remove(id);
+            if (bitmap.isEmpty()) {
+                values.remove(value);
+            }
+        }
+    }
+
+    private void removeLocked(int id) {
+        FacetValues previous = valuesByJob.remove(id);
+        if (previous == null) {
+            return;
+        }
+        all.remove(id);
+        clearBit(byLocation, previous.location(), id);
+        clearBit(byJobType, previous.jobType(), id);
+        clearBit(byExperienceLevel, previous.experienceLevel(), id);
+        clearBit(byPostedDay, previous.postedDay(), id);
+    }
+
+    private static String normalize(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        return value.trim();
+    }
+
+    private record FacetValues(String location, String jobType, String experienceLevel, Long postedDay) {}
+}
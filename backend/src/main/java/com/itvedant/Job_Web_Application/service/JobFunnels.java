@@ -0,0 +1,294 @@
+package com.itvedant.Job_Web_Application.service;
+
+import com.itvedant.Job_Web_Application.entities.JobFunnel;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Save-to-accept funnels per job. saved_jobs and applications are both read as streaming cursors
+ * ordered by (job_id, seeker_id) and merged in one pass, so neither table is held in memory and
+ * "saved and applied" falls out of the merge. The requested job ids are split into IN lists
+ * across a small fork/join pool, so only those jobs' rows are read. Results are cached per job
+ * until a save, application or status change for it commits; least recently used jobs are evicted
+ * past the configured count.
+ */
+@Component
+public class JobFunnels {
+
+    // MySQL allows one streaming result per connection, so a merge holds one per cursor
+    private static final int CONNECTIONS_PER_MERGE = 2;
+
+    // Job ids one task merges on its own, as one IN list per cursor; longer lists are split in half
+    private static final int LEAF_JOBS = 500;
+
+    private static final int STREAM_FETCH_SIZE = Integer.MIN_VALUE;
+
+    private static final String SAVED_SQL = """
+            SELECT job_id, seeker_id, NULL AS status FROM saved_jobs
+            WHERE job_id IN (%s) ORDER BY job_id, seeker_id
+            """;
+
+    private static final String APPLICATIONS_SQL = """
+            SELECT job_id, seeker_id, status FROM applications
+            WHERE job_id IN (%s) ORDER BY job_id, seeker_id
+            """;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Value("${app.funnels.max-cached-jobs:10000}")
+    private int maxCachedJobs;
+
+    // Pool connections funnels may hold at once; must stay below the datasource pool size
+    @Value("${app.funnels.max-connections:4}")
+    private int maxConnections;
+
+    private ForkJoinPool pool;
+
+    // Joining tasks can make the pool add threads, so connections are bounded separately. A merge
+    // takes both its permits at once, so it never holds one connection while waiting for another.
+    private Semaphore connections;
+
+    // Access-ordered, so iteration starts at the least recently used job; guarded by this
+    private final LinkedHashMap<Long, JobFunnel> cache = new LinkedHashMap<>(256, 0.75f, true);
+
+    // Bumped by every invalidation, so a pass that raced one is served but not cached
+    private long invalidations;
+
+    /**
+     * Funnels for the given jobs, in input order; jobs nobody saved or applied to get zeros
+     */
+    public List<JobFunnel> funnels(List<Long> jobIds) {
+        Map<Long, JobFunnel> found = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+        synchronized (this) {
+            for (Long jobId : jobIds) {
+                JobFunnel cached = cache.get(jobId);
+                if (cached != null) {
+                    found.put(jobId, cached);
+                } else {
+                    missing.add(jobId);
+                }
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            long before;
+            synchronized (this) {
+                before = invalidations;
+            }
+            Map<Long, JobFunnel> computed = compute(missing);
+            for (Long jobId : missing) {
+                computed.putIfAbsent(jobId, new JobFunnel(jobId, 0, 0, 0, 0, 0));
+            }
+            synchronized (this) {
+                if (invalidations == before) {
+                    cache.putAll(computed);
+                    Iterator<Long> eldest = cache.keySet().iterator();
+                    while (cache.size() > maxCachedJobs && eldest.hasNext()) {
+                        eldest.next();
+                        eldest.remove();
+                    }
+                }
+            }
+            found.putAll(computed);
+        }
+
+        List<JobFunnel> result = new ArrayList<>(jobIds.size());
+        for (Long jobId : jobIds) {
+            result.add(found.get(jobId));
+        }
+        return result;
+    }
+
+    public void invalidate(Long jobId) {
+        invalidateAll(List.of(jobId));
+    }
+
+    public void invalidateAll(Collection<Long> jobIds) {
+        if (jobIds.isEmpty()) {
+            return;
+        }
+        AfterCommit.run(() -> {
+            synchronized (this) {
+                invalidations++;
+                cache.keySet().removeAll(jobIds);
+            }
+        });
+    }
+
+    @PostConstruct
+    public void start() {
+        int parallelism = Math.max(1, maxConnections / CONNECTIONS_PER_MERGE);
+        pool = new ForkJoinPool(parallelism);
+        connections = new Semaphore(parallelism * CONNECTIONS_PER_MERGE, true);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    // Sorted and deduplicated, so each leaf's IN list reads its jobs in cursor order
+    private Map<Long, JobFunnel> compute(List<Long> jobIds) {
+        long[] ids = jobIds.stream().mapToLong(Long::longValue).sorted().distinct().toArray();
+        return pool.invoke(new MergeTask(ids, 0, ids.length));
+    }
+
+    private final class MergeTask extends RecursiveTask<Map<Long, JobFunnel>> {
+        private final long[] ids;
+        private final int from;
+        private final int to;
+
+        MergeTask(long[] ids, int from, int to) {
+            this.ids = ids;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Map<Long, JobFunnel> compute() {
+            if (to - from > LEAF_JOBS) {
+                int middle = (from + to) >>> 1;
+                MergeTask right = new MergeTask(ids, middle, to);
+                right.fork();
+                Map<Long, JobFunnel> result = new MergeTask(ids, from, middle).compute();
+                result.putAll(right.join());
+                return result;
+            }
+            connections.acquireUninterruptibly(CONNECTIONS_PER_MERGE);
+            try {
+                return merge(Arrays.copyOfRange(ids, from, to));
+            } catch (SQLException e) {
+                throw new RuntimeException("Failed to compute funnels for jobs " + ids[from] + " to " + ids[to - 1]
+                        + ": " + e.getMessage(), e);
+            } finally {
+                connections.release(CONNECTIONS_PER_MERGE);
+            }
+        }
+    }
+
+    private Map<Long, JobFunnel> merge(long[] jobIds) throws SQLException {
+        Map<Long, JobFunnel> result = new HashMap<>();
+        String in = String.join(",", Collections.nCopies(jobIds.length, "?"));
+        // Both connections are covered by the permits taken in MergeTask
+        try (Connection savedConnection = dataSource.getConnection();
+             Connection applicationsConnection = dataSource.getConnection();
+             Cursor saved = new Cursor(savedConnection, SAVED_SQL.formatted(in), jobIds);
+             Cursor applications = new Cursor(applicationsConnection, APPLICATIONS_SQL.formatted(in), jobIds)) {
+            long jobId = -1;
+            long[] tally = new long[5];
+            while (saved.more || applications.more) {
+                int order = !saved.more ? 1 : !applications.more ? -1 : saved.compareTo(applications);
+                long rowJob = order <= 0 ? saved.jobId : applications.jobId;
+                if (rowJob != jobId) {
+                    if (jobId != -1) {
+                        result.put(jobId, toFunnel(jobId, tally));
+                    }
+                    jobId = rowJob;
+                    tally = new long[5];
+                }
+                if (order <= 0) {
+                    tally[0]++;
+                }
+                if (order >= 0) {
+                    tally[1]++;
+                    ApplicationStatus status = ApplicationStatus.valueOf(applications.status);
+                    if (status == ApplicationStatus.REVIEWING || status == ApplicationStatus.ACCEPTED) {
+                        tally[3]++;
+                    }
+                    if (status == ApplicationStatus.ACCEPTED) {
+                        tally[4]++;
+                    }
+                }
+                if (order == 0) {
+                    tally[2]++;
+                }
+                if (order <= 0) {
+                    saved.advance();
+                }
+                if (order >= 0) {
+                    applications.advance();
+                }
+            }
+            if (jobId != -1) {
+                result.put(jobId, toFunnel(jobId, tally));
+            }
+        }
+        return result;
+    }
+
+    private static JobFunnel toFunnel(long jobId, long[] tally) {
+        return new JobFunnel(jobId, tally[0], tally[1], tally[2], tally[3], tally[4]);
+    }
+
+    /**
+     * Forward-only cursor over (job_id, seeker_id[, status]) rows that skips repeated pairs
+     */
+    private static final class Cursor implements AutoCloseable {
+        private final PreparedStatement statement;
+        private final ResultSet rs;
+        boolean more = true;
+        long jobId = -1;
+        long seekerId = -1;
+        String status;
+
+        Cursor(Connection connection, String sql, long[] jobIds) throws SQLException {
+            statement = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(STREAM_FETCH_SIZE);
+            for (int i = 0; i < jobIds.length; i++) {
+                statement.setLong(i + 1, jobIds[i]);
+            }
+            rs = statement.executeQuery();
+            advance();
+        }
+
+        void advance() throws SQLException {
+            long previousJob = jobId;
+            long previousSeeker = seekerId;
+            while (more = rs.next()) {
+                jobId = rs.getLong("job_id");
+                seekerId = rs.getLong("seeker_id");
+                status = rs.getString("status");
+                if (jobId != previousJob || seekerId != previousSeeker) {
+                    return;
+                }
+            }
+        }
+
+        int compareTo(Cursor other) {
+            int byJob = Long.compare(jobId, other.jobId);
+            return byJob != 0 ? byJob : Long.compare(seekerId, other.seekerId);
+        }
+
+        @Override
+        public void close() throws SQLException {
+            try {
+                rs.close();
+            } finally {
+                statement.close();
+            }
+        }
+    }
+}
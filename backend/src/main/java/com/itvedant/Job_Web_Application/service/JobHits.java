@@ -0,0 +1,6 @@
+package com.itvedant.Job_Web_Application.service;
+
+/**
+ * One page of job ids from an in-memory index, best first, plus the total number of matches
+ */
+public record JobHits(long[] jobIds, int total) {}
@@ -0,0 +1,153 @@
+package com.itvedant.Job_Web_Application.service;
+
+import com.itvedant.Job_Web_Application.entities.Job;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Fills the in-memory job indexes once at startup, reading the jobs table in id-ordered batches
+ * so the whole catalog is never held in memory at once. After this JobService keeps them current.
+ * Rows saved before the numeric salary columns existed are backfilled on the same pass, and rows
+ * without a posted date get today's, since the keyset feed only pages through dated rows.
+ * Traffic is already served while this runs, so JobService routes its index writes through
+ * applyLive; a job written live is newer than any batch row for it and the batch skips it.
+ */
+@Component
+public class JobIndexBootstrap {
+
+    private static final int LOAD_BATCH_SIZE = 5000;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private JobSearchIndex jobSearchIndex;
+
+    @Autowired
+    private JobFacetIndex jobFacetIndex;
+
+    @Autowired
+    private SuggestionIndex suggestionIndex;
+
+    @Autowired
+    private SalaryRangeIndex salaryRangeIndex;
+
+    @Autowired
+    private JobRecommender jobRecommender;
+
+    private volatile boolean loading = true;
+
+    // Jobs saved or deleted live since loading started, guarded by this
+    private final Set<Long> writtenLive = new HashSet<>();
+
+    /**
+     * Applies a live index write for a job, and while loading keeps the bootstrap from putting the
+     * stale batch row back over it afterwards
+     */
+    public void applyLive(Long jobId, Runnable write) {
+        if (!loading) {
+            write.run();
+            return;
+        }
+        synchronized (this) {
+            if (loading) {
+                writtenLive.add(jobId);
+            }
+            write.run();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        try {
+            long start = System.currentTimeMillis();
+            int undated = jdbcTemplate.update("UPDATE jobs SET posted_date = CURRENT_DATE WHERE posted_date IS NULL");
+            long lastId = 0;
+            int total = 0;
+            int backfilled = 0;
+            List<Job> batch;
+            do {
+                batch = jdbcTemplate.query("""
+                        SELECT id, title, company, location, description, job_type, experience_level, posted_date,
+                               salary_range, salary_min, salary_max, salary_currency, salary_period
+                        FROM jobs WHERE id > ? ORDER BY id LIMIT ?
+                        """,
+                        (rs, rowNum) -> {
+                            Job job = new Job(rs.getString("title"), rs.getString("company"),
+                                    rs.getString("location"), rs.getString("description"));
+                            job.setId(rs.getLong("id"));
+                            job.setJobType(rs.getString("job_type"));
+                            job.setExperienceLevel(rs.getString("experience_level"));
+                            Date postedDate = rs.getDate("posted_date");
+                            job.setPostedDate(postedDate == null ? null : postedDate.toLocalDate());
+                            job.setSalaryRange(rs.getString("salary_range"));
+                            job.setSalaryMin(rs.getObject("salary_min", Long.class));
+                            job.setSalaryMax(rs.getObject("salary_max", Long.class));
+                            job.setSalaryCurrency(rs.getString("salary_currency"));
+                            job.setSalaryPeriod(rs.getString("salary_period"));
+                            return job;
+                        },
+                        lastId, LOAD_BATCH_SIZE);
+                List<Object[]> salaryUpdates = new ArrayList<>();
+                for (Job job : batch) {
+                    if (job.getSalaryMax() == null && job.getSalaryRange() != null) {
+                        JobService.applySalary(job);
+                        if (job.getSalaryMax() != null) {
+                            salaryUpdates.add(new Object[] {job.getSalaryMin(), job.getSalaryMax(),
+                                    job.getSalaryCurrency(), job.getSalaryPeriod(), job.getId()});
+                        }
+                    }
+                    lastId = job.getId();
+                }
+                indexBatch(batch);
+                if (!salaryUpdates.isEmpty()) {
+                    // A live save in the meantime has already parsed the newer salary text
+                    jdbcTemplate.batchUpdate("""
+                            UPDATE jobs SET salary_min = ?, salary_max = ?, salary_currency = ?, salary_period = ?
+                            WHERE id = ? AND salary_max IS NULL
+                            """, salaryUpdates);
+                    backfilled += salaryUpdates.size();
+                }
+                total += batch.size();
+            } while (batch.size() == LOAD_BATCH_SIZE);
+
+            // Recruiter company names feed autocomplete too
+            jdbcTemplate.query("SELECT recruiter_id, company_name FROM recruiter_profiles", rs -> {
+                suggestionIndex.indexRecruiterCompany(rs.getLong("recruiter_id"), rs.getString("company_name"));
+            });
+
+            System.out.println("Job indexes loaded " + total + " jobs in "
+                    + (System.currentTimeMillis() - start) + " ms, backfilled salary for " + backfilled
+                    + " and posted date for " + undated);
+        } catch (Exception e) {
+            System.err.println("Error loading job indexes: " + e.getMessage());
+        } finally {
+            synchronized (this) {
+                loading = false;
+                writtenLive.clear();
+            }
+        }
+    }
+
+    private synchronized void indexBatch(List<Job> batch) {
+        for (Job job : batch) {
+            if (writtenLive.contains(job.getId())) {
+                continue;
+            }
+            jobSearchIndex.index(job);
+            jobFacetIndex.index(job);
+            suggestionIndex.indexJob(job);
+            salaryRangeIndex.index(job);
+            jobRecommender.indexJob(job);
+        }
+    }
+}
@@ -0,0 +1,343 @@
+package com.itvedant.Job_Web_Application.service;
+
+import com.itvedant.Job_Web_Application.entities.Job;
+import com.itvedant.Job_Web_Application.entities.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.IntStream;
+
+/**
+ * Skill-to-job matching over sparse term vectors. Jobs are stored as length-normalised
+ * sublinear term frequencies (title counted twice) in primitive arrays; profile skills are
+ * weighted by IDF at query time, so adding jobs never forces existing vectors to be rebuilt.
+ * A job's score is the dot product of the two vectors, i.e. the cosine of the IDF-weighted
+ * profile against the job. Term ids belong to job vocabulary only and are reused once no job uses
+ * them, so profiles keep their skill tokens and resolve them to ids when scored.
+ */
+@Component
+public class JobRecommender {
+
+    private static final float TITLE_WEIGHT = 2f;
+
+    // Below this many jobs a single thread is faster than splitting the scan
+    private static final int PARALLEL_THRESHOLD = 20_000;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<String, Integer> termIds = new HashMap<>();
+    private String[] termTokens = new String[1024];
+    private int[] documentFrequency = new int[1024];
+    private int termCount;
+    private int[] freeTerms = new int[16];
+    private int freeTermCount;
+
+    // Job vectors by slot; freed slots are reused
+    private long[] slotJob = new long[1024];
+    private int[][] slotTerms = new int[1024][];
+    private float[][] slotWeights = new float[1024][];
+    private int slotCount;
+    private int[] freeSlots = new int[16];
+    private int freeCount;
+    private final Map<Long, Integer> slotByJob = new HashMap<>();
+
+    // Raw skill token frequencies per seeker
+    private final Map<Long, Map<String, Float>> profiles = new HashMap<>();
+
+    public void indexJob(Job job) {
+        if (job == null || job.getId() == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            removeJobLocked(job.getId());
+
+            Map<Integer, Float> counts = new HashMap<>();
+            addTerms(counts, job.getTitle(), TITLE_WEIGHT);
+            addTerms(counts, job.getDescription(), 1f);
+            if (counts.isEmpty()) {
+                return;
+            }
+            SparseVector vector = toVector(counts, true);
+            for (int term : vector.terms()) {
+                documentFrequency[term]++;
+            }
+
+            int slot = freeCount > 0 ? freeSlots[--freeCount] : slotCount++;
+            if (slot == slotJob.length) {
+                int capacity = slot * 2;
+                slotJob = Arrays.copyOf(slotJob, capacity);
+                slotTerms = Arrays.copyOf(slotTerms, capacity);
+                slotWeights = Arrays.copyOf(slotWeights, capacity);
+            }
+            slotJob[slot] = job.getId();
+            slotTerms[slot] = vector.terms();
+            slotWeights[slot] = vector.weights();
+            slotByJob.put(job.getId(), slot);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void removeJob(Long jobId) {
+        if (jobId == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            removeJobLocked(jobId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Replace a seeker's skill vector; a profile without skills is dropped
+     */
+    public void indexProfile(Long seekerId, Profile profile) {
+        if (seekerId == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            Map<String, Float> counts = new HashMap<>();
+            if (profile != null) {
+                for (String token : TextTokenizer.tokenize(profile.getSkills())) {
+                    counts.merge(token, 1f, Float::sum);
+                }
+            }
+            if (counts.isEmpty()) {
+                profiles.remove(seekerId);
+            } else {
+                profiles.put(seekerId, counts);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void removeProfile(Long seekerId) {
+        lock.writeLock().lock();
+        try {
+            profiles.remove(seekerId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean hasProfile(Long seekerId) {
+        lock.readLock().lock();
+        try {
+            return profiles.containsKey(seekerId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * The best matching jobs for a seeker, best first, skipping the excluded job ids.
+     * Returns no entries when the seeker has no indexed skills.
+     */
+    public TopKHeap.Entries recommend(Long seekerId, int limit, Set<Long> excludedJobs) {
+        lock.readLock().lock();
+        try {
+            Map<String, Float> skills = profiles.get(seekerId);
+            if (skills == null || limit <= 0) {
+                return new TopKHeap.Entries(new long[0], new double[0]);
+            }
+            Map<Integer, Float> counts = new HashMap<>();
+            for (Map.Entry<String, Float> skill : skills.entrySet()) {
+                Integer term = termIds.get(skill.getKey());
+                if (term != null) {
+                    counts.merge(term, skill.getValue(), Float::sum);
+                }
+            }
+            if (counts.isEmpty()) {
+                return new TopKHeap.Entries(new long[0], new double[0]);
+            }
+            SparseVector query = weighQuery(toVector(counts, false));
+            if (query.terms().length == 0) {
+                return new TopKHeap.Entries(new long[0], new double[0]);
+            }
+
+            int slots = slotCount;
+            int workers = Runtime.getRuntime().availableProcessors();
+            if (slots < PARALLEL_THRESHOLD || workers < 2) {
+                return scoreSlots(query, 0, slots, limit, excludedJobs).drainEntriesDescending();
+            }
+
+            // The read lock held here keeps writers out while the pool threads scan
+            int chunk = (slots + workers - 1) / workers;
+            List<TopKHeap.Entries> partials = IntStream.range(0, workers).parallel()
+                    .mapToObj(w -> scoreSlots(query, w * chunk, Math.min(slots, (w + 1) * chunk),
+                            limit, excludedJobs).drainEntriesDescending())
+                    .toList();
+            TopKHeap merged = new TopKHeap(limit);
+            for (TopKHeap.Entries partial : partials) {
+                for (int i = 0; i < partial.keys().length; i++) {
+                    merged.offer(partial.keys()[i], partial.scores()[i]);
+                }
+            }
+            return merged.drainEntriesDescending();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Cosine match of each skills text against one job, in input order. Unknown jobs score 0.
+     * Runs under a single read lock and never grows the term dictionary.
+     */
+    public double[] skillMatches(Long jobId, List<String> skillsTexts) {
+        double[] scores = new double[skillsTexts.size()];
+        lock.readLock().lock();
+        try {
+            Integer slot = slotByJob.get(jobId);
+            if (slot == null) {
+                return scores;
+            }
+            for (int i = 0; i < scores.length; i++) {
+                Map<Integer, Float> counts = new HashMap<>();
+                for (String token : TextTokenizer.tokenize(skillsTexts.get(i))) {
+                    Integer term = termIds.get(token);
+                    if (term != null) {
+                        counts.merge(term, 1f, Float::sum);
+                    }
+                }
+                if (!counts.isEmpty()) {
+                    SparseVector query = weighQuery(toVector(counts, false));
+                    scores[i] = dot(query.terms(), query.weights(), slotTerms[slot], slotWeights[slot]);
+                }
+            }
+            return scores;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private TopKHeap scoreSlots(SparseVector query, int from, int to, int limit, Set<Long> excludedJobs) {
+        TopKHeap heap = new TopKHeap(limit);
+        for (int slot = from; slot < to; slot++) {
+            int[] terms = slotTerms[slot];
+            if (terms == null) {
+                continue;
+            }
+            double score = dot(query.terms(), query.weights(), terms, slotWeights[slot]);
+            if (score > 0 && score >= heap.threshold() && !excludedJobs.contains(slotJob[slot])) {
+                heap.offer(slotJob[slot], score);
+            }
+        }
+        return heap;
+    }
+
+    private static double dot(int[] termsA, float[] weightsA, int[] termsB, float[] weightsB) {
+        double sum = 0;
+        int i = 0;
+        int j = 0;
+        while (i < termsA.length && j < termsB.length) {
+            if (termsA[i] == termsB[j]) {
+                sum += weightsA[i++] * weightsB[j++];
+            } else if (termsA[i] < termsB[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return sum;
+    }
+
+    // IDF-weight and normalise a profile; terms no job uses are dropped
+    private SparseVector weighQuery(SparseVector profile) {
+        int jobs = slotByJob.size();
+        int[] terms = new int[profile.terms().length];
+        float[] weights = new float[terms.length];
+        int n = 0;
+        double norm = 0;
+        for (int i = 0; i < profile.terms().length; i++) {
+            int term = profile.terms()[i];
+            int df = documentFrequency[term];
+            if (df == 0) {
+                continue;
+            }
+            float weight = (float) (profile.weights()[i] * Math.log(1 + (double) jobs / df));
+            terms[n] = term;
+            weights[n++] = weight;
+            norm += weight * weight;
+        }
+        float scale = norm == 0 ? 0 : (float) (1 / Math.sqrt(norm));
+        for (int i = 0; i < n; i++) {
+            weights[i] *= scale;
+        }
+        return new SparseVector(Arrays.copyOf(terms, n), Arrays.copyOf(weights, n));
+    }
+
+    private void addTerms(Map<Integer, Float> counts, String text, float weight) {
+        for (String token : TextTokenizer.tokenize(text)) {
+            Integer term = termIds.get(token);
+            if (term == null) {
+                term = freeTermCount > 0 ? freeTerms[--freeTermCount] : termCount++;
+                if (term == documentFrequency.length) {
+                    documentFrequency = Arrays.copyOf(documentFrequency, term * 2);
+                    termTokens = Arrays.copyOf(termTokens, term * 2);
+                }
+                termIds.put(token, term);
+                termTokens[term] = token;
+            }
+            counts.merge(term, weight, Float::sum);
+        }
+    }
+
+    // Sublinear tf, sorted by term id, optionally L2-normalised
+    private static SparseVector toVector(Map<Integer, Float> counts, boolean normalize) {
+        int[] terms = new int[counts.size()];
+        int n = 0;
+        for (int term : counts.keySet()) {
+            terms[n++] = term;
+        }
+        Arrays.sort(terms);
+        float[] weights = new float[terms.length];
+        double norm = 0;
+        for (int i = 0; i < terms.length; i++) {
+            weights[i] = (float) (1 + Math.log(counts.get(terms[i])));
+            norm += weights[i] * weights[i];
+        }
+        if (normalize) {
+            float scale = (float) (1 / Math.sqrt(norm));
+            for (int i = 0; i < weights.length; i++) {
+                weights[i] *= scale;
+            }
+        }
+        return new SparseVector(terms, weights);
+    }
+
+    private void removeJobLocked(Long jobId) {
+        Integer slot = slotByJob.remove(jobId);
+        if (slot == null) {
+            return;
+        }
+        for (int term : slotTerms[slot]) {
+            if (--documentFrequency[term] == 0) {
+                // No job uses the term any more; hand its id back
+                termIds.remove(termTokens[term]);
+                termTokens[term] = null;
+                if (freeTermCount == freeTerms.length) {
+                    freeTerms = Arrays.copyOf(freeTerms, freeTermCount * 2);
+                }
+                freeTerms[freeTermCount++] = term;
+            }
+        }
+        slotTerms[slot] = null;
+        slotWeights[slot] = null;
+        if (freeCount == freeSlots.length) {
+            freeSlots = Arrays.copyOf(freeSlots, freeCount * 2);
+        }
+        freeSlots[freeCount++] = slot;
+    }
+
+    private record SparseVector(int[] terms, float[] weights) {}
+}
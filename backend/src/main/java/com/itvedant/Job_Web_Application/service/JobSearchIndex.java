@@ -0,0 +1,265 @@
+package com.itvedant.Job_Web_Application.service;
+
+import com.itvedant.Job_Web_Application.entities.Job;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory inverted index over job title, company, location and description, ranked with BM25.
+ * Filled at startup by JobIndexBootstrap and then kept current by JobService on every create,
+ * update and delete.
+ */
+@Component
+public class JobSearchIndex {
+
+    private static final int TITLE_WEIGHT = 3;
+    private static final int COMPANY_WEIGHT = 2;
+    private static final int LOCATION_WEIGHT = 2;
+    private static final int DESCRIPTION_WEIGHT = 1;
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // term -> postings (doc ordinal + weighted term frequency)
+    private final Map<String, Postings> terms = new HashMap<>();
+
+    // job id <-> dense doc ordinal; freed ordinals are reused
+    private final Map<Long, Integer> ordinalByJobId = new HashMap<>();
+    private final ArrayDeque<Integer> freeOrdinals = new ArrayDeque<>();
+    private long[] jobIdByOrdinal = new long[1024];
+    private int[] docLength = new int[1024];
+    private Postings[][] docTerms = new Postings[1024][];
+    // Where each doc sits in each of its postings, parallel to docTerms, so removal needs no scan
+    private int[][] docPositions = new int[1024][];
+    private int ordinalCount;
+
+    private int docCount;
+    private long totalLength;
+
+    // Per-thread score accumulator, sized to the ordinal space
+    private final ThreadLocal<float[]> scoreBuffer = ThreadLocal.withInitial(() -> new float[0]);
+
+    /**
+     * Add or replace a job in the index
+     */
+    public void index(Job job) {
+        if (job == null || job.getId() == null) {
+            return;
+        }
+
+        Map<String, Integer> frequencies = new HashMap<>();
+        addField(frequencies, job.getTitle(), TITLE_WEIGHT);
+        addField(frequencies, job.getCompany(), COMPANY_WEIGHT);
+        addField(frequencies, job.getLocation(), LOCATION_WEIGHT);
+        addField(frequencies, job.getDescription(), DESCRIPTION_WEIGHT);
+
+        lock.writeLock().lock();
+        try {
+            removeLocked(job.getId());
+
+            int ordinal = allocateOrdinal(job.getId());
+            Postings[] postingsForDoc = new Postings[frequencies.size()];
+            int[] positions = new int[postingsForDoc.length];
+            int length = 0;
+            int i = 0;
+            for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+                Postings postings = terms.computeIfAbsent(entry.getKey(), Postings::new);
+                positions[i] = postings.add(ordinal, entry.getValue(), i);
+                postingsForDoc[i++] = postings;
+                length += entry.getValue();
+            }
+            docTerms[ordinal] = postingsForDoc;
+            docPositions[ordinal] = positions;
+            docLength[ordinal] = length;
+            docCount++;
+            totalLength += length;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove a job from the index; unknown ids are ignored
+     */
+    public void remove(Long jobId) {
+        if (jobId == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            removeLocked(jobId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Rank jobs for a free-text query and return the requested page of job ids, best first.
+     * The heap is never larger than the number of matches, whatever page is asked for.
+     */
+    public JobHits search(String query, int page, int size) {
+        LinkedHashSet<String> queryTerms = new LinkedHashSet<>(TextTokenizer.tokenize(query));
+        if (queryTerms.isEmpty() || size <= 0 || page < 0) {
+            return new JobHits(new long[0], 0);
+        }
+        long offset = (long) page * size;
+
+        lock.readLock().lock();
+        try {
+            float[] scores = scoreBuffer.get();
+            if (scores.length < ordinalCount) {
+                scores = new float[jobIdByOrdinal.length];
+                scoreBuffer.set(scores);
+            }
+
+            int[] touched = new int[16];
+            int touchedCount = 0;
+            double avgLength = docCount == 0 ? 1 : (double) totalLength / docCount;
+
+            for (String term : queryTerms) {
+                Postings postings = terms.get(term);
+                if (postings == null || postings.size == 0) {
+                    continue;
+                }
+                double idf = Math.log(1 + (docCount - postings.size + 0.5) / (postings.size + 0.5));
+                for (int p = 0; p < postings.size; p++) {
+                    int ordinal = postings.docs[p];
+                    int tf = postings.freqs[p];
+                    double norm = K1 * (1 - B + B * docLength[ordinal] / avgLength);
+                    float contribution = (float) (idf * tf * (K1 + 1) / (tf + norm));
+                    if (scores[ordinal] == 0f) {
+                        if (touchedCount == touched.length) {
+                            touched = Arrays.copyOf(touched, touchedCount * 2);
+                        }
+                        touched[touchedCount++] = ordinal;
+                    }
+                    scores[ordinal] += contribution;
+                }
+            }
+
+            if (offset >= touchedCount) {
+                for (int t = 0; t < touchedCount; t++) {
+                    scores[touched[t]] = 0f;
+                }
+                return new JobHits(new long[0], touchedCount);
+            }
+
+            // Bounded min-heap keeps only the best offset + size hits
+            TopKHeap heap = new TopKHeap((int) Math.min(offset + size, touchedCount));
+            for (int t = 0; t < touchedCount; t++) {
+                int ordinal = touched[t];
+                if (scores[ordinal] >= heap.threshold()) {
+                    heap.offer(jobIdByOrdinal[ordinal], scores[ordinal]);
+                }
+                scores[ordinal] = 0f;
+            }
+
+            long[] ranked = heap.drainDescending();
+            int from = (int) Math.min(offset, ranked.length);
+            long[] jobIds = Arrays.copyOfRange(ranked, from, ranked.length);
+            return new JobHits(jobIds, touchedCount);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static void addField(Map<String, Integer> frequencies, String text, int weight) {
+        for (String token : TextTokenizer.tokenize(text)) {
+            frequencies.merge(token, weight, Integer::sum);
+        }
+    }
+
+    private int allocateOrdinal(Long jobId) {
+        Integer ordinal = freeOrdinals.poll();
+        if (ordinal == null) {
+            ordinal = ordinalCount++;
+            if (ordinal == jobIdByOrdinal.length) {
+                int capacity = jobIdByOrdinal.length * 2;
+                jobIdByOrdinal = Arrays.copyOf(jobIdByOrdinal, capacity);
+                docLength = Arrays.copyOf(docLength, capacity);
+                docTerms = Arrays.copyOf(docTerms, capacity);
+                docPositions = Arrays.copyOf(docPositions, capacity);
+            }
+        }
+        jobIdByOrdinal[ordinal] = jobId;
+        ordinalByJobId.put(jobId, ordinal);
+        return ordinal;
+    }
+
+    private void removeLocked(Long jobId) {
+        Integer ordinal = ordinalByJobId.remove(jobId);
+        if (ordinal == null) {
+            return;
+        }
+        Postings[] postingsForDoc = docTerms[ordinal];
+        int[] positions = docPositions[ordinal];
+        for (int k = 0; k < postingsForDoc.length; k++) {
+            Postings postings = postingsForDoc[k];
+            // Order does not matter, so swap the last entry into the hole and repoint its doc
+            int at = positions[k];
+            int last = --postings.size;
+            if (at != last) {
+                int moved = postings.docs[last];
+                int movedSlot = postings.docSlots[last];
+                postings.docs[at] = moved;
+                postings.freqs[at] = postings.freqs[last];
+                postings.docSlots[at] = movedSlot;
+                docPositions[moved][movedSlot] = at;
+            }
+            if (postings.size == 0) {
+                terms.remove(postings.term);
+            }
+        }
+        totalLength -= docLength[ordinal];
+        docCount--;
+        docTerms[ordinal] = null;
+        docPositions[ordinal] = null;
+        docLength[ordinal] = 0;
+        freeOrdinals.push(ordinal);
+    }
+
+    /**
+     * Unordered posting list stored as parallel primitive arrays. docSlots holds the index of this
+     * list within each doc's docTerms, so a moved entry can update its doc's position.
+     */
+    private static final class Postings {
+        final String term;
+        int[] docs = new int[4];
+        int[] freqs = new int[4];
+        int[] docSlots = new int[4];
+        int size;
+
+        Postings(String term) {
+            this.term = term;
+        }
+
+        int add(int ordinal, int freq, int docSlot) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                freqs = Arrays.copyOf(freqs, size * 2);
+                docSlots = Arrays.copyOf(docSlots, size * 2);
+            }
+            docs[size] = ordinal;
+            freqs[size] = freq;
+            docSlots[size] = docSlot;
+            return size++;
+        }
+    }
+}
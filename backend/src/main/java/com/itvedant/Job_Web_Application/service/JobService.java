@@ -1,36 +1,235 @@
 package com.itvedant.Job_Web_Application.service;
 
 import com.itvedant.Job_Web_Application.entities.Job;
+import com.itvedant.Job_Web_Application.entities.JobFeedPage;
+import com.itvedant.Job_Web_Application.entities.JobFunnel;
+import com.itvedant.Job_Web_Application.entities.JobSearchPage;
+import com.itvedant.Job_Web_Application.entities.RecommendedJob;
+import com.itvedant.Job_Web_Application.entities.RecruiterDashboardJob;
+import com.itvedant.Job_Web_Application.entities.RecruiterDashboardPage;
+import com.itvedant.Job_Web_Application.entities.TrendingJob;
+import com.itvedant.Job_Web_Application.repository.ApplicationRepository;
+import com.itvedant.Job_Web_Application.repository.ProfileRepository;
 import com.itvedant.Job_Web_Application.repository.SavedJobRepository;
 import com.itvedant.Job_Web_Application.entities.Recruiter;
 import com.itvedant.Job_Web_Application.repository.JobRepository;
 import com.itvedant.Job_Web_Application.repository.RecruiterRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Service
 public class JobService {
 
+    public static final int DEFAULT_FEED_SIZE = 20;
+    public static final int MAX_FEED_SIZE = 100;
+    // Ranked searches only page this deep; nobody reads past it and the ranking heap grows with it
+    public static final int MAX_SEARCH_DEPTH = 10_000;
+    public static final int DEFAULT_SUGGESTIONS = 10;
+    public static final int MAX_SUGGESTIONS = 10;
+    public static final int DEFAULT_RECOMMENDATIONS = 10;
+    public static final int MAX_RECOMMENDATIONS = 50;
+    public static final int DEFAULT_DASHBOARD_SIZE = 20;
+    public static final int MAX_DASHBOARD_SIZE = 100;
+
+    // Bumped on every job write; seeded with the boot time so versions never repeat across restarts
+    private final AtomicLong jobsVersion = new AtomicLong(System.currentTimeMillis());
+
     @Autowired
     private JobRepository jobRepository;
 
     @Autowired
     private RecruiterRepository recruiterRepo;
 
+    @Autowired
+    private JobSearchIndex jobSearchIndex;
+
+    @Autowired
+    private JobFacetIndex jobFacetIndex;
+
+    @Autowired
+    private SuggestionIndex suggestionIndex;
+
+    @Autowired
+    private SalaryRangeIndex salaryRangeIndex;
+
+    @Autowired
+    private JobRecommender jobRecommender;
+
+    @Autowired
+    private JobIndexBootstrap jobIndexBootstrap;
+
+    @Autowired
+    private ApplicantRanker applicantRanker;
+
+    @Autowired
+    private SeekerJobMembershipCache membershipCache;
+
+    @Autowired
+    private JobCache jobCache;
+
+    @Autowired
+    private ApplicationStatusCounters statusCounters;
+
+    @Autowired
+    private JobEngagementCounters engagementCounters;
+
+    @Autowired
+    private TrendingJobs trendingJobs;
+
+    @Autowired
+    private JobFunnels jobFunnels;
+
+    @Autowired
+    private ProfileRepository profileRepository;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
     public List<Job> getAll() {
         return jobRepository.findAll();
     }
 
+    /**
+     * Get one page of the job feed, newest first.
+     * The cursor is the opaque "nextCursor" of the previous page; null starts from the top.
+     */
+    public JobFeedPage getFeed(String cursor, int size, String location, String jobType,
+                               String experienceLevel, String company, LocalDate postedSince,
+                               String salaryCurrency, Long minSalary) {
+        int pageSize = Math.max(1, Math.min(size, MAX_FEED_SIZE));
+
+        LocalDate cursorDate = null;
+        Long cursorId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            String[] parts = cursor.split("_");
+            try {
+                if (parts.length != 2) {
+                    throw new IllegalArgumentException("Invalid cursor: " + cursor);
+                }
+                cursorDate = LocalDate.parse(parts[0]);
+                cursorId = Long.valueOf(parts[1]);
+            } catch (DateTimeParseException | NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid cursor: " + cursor);
+            }
+        }
+
+        // Fetch one extra row to learn whether another page exists
+        List<Job> rows = jobRepository.findFeedPage(
+                blankToNull(location), blankToNull(jobType), blankToNull(experienceLevel),
+                blankToNull(company), postedSince, blankToNull(salaryCurrency), minSalary,
+                cursorDate, cursorId, PageRequest.of(0, pageSize + 1));
+
+        if (rows.size() <= pageSize) {
+            return new JobFeedPage(rows, null);
+        }
+
+        List<Job> page = rows.subList(0, pageSize);
+        Job last = page.get(pageSize - 1);
+        return new JobFeedPage(page, last.getPostedDate() + "_" + last.getId());
+    }
+
+    /**
+     * Full-text search over title, company, location and description, best match first
+     */
+    public JobSearchPage search(String query, int page, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_FEED_SIZE));
+        int pageNumber = Math.max(0, page);
+        if ((long) pageNumber * pageSize >= MAX_SEARCH_DEPTH) {
+            throw new IllegalArgumentException("Search results are only available for the first "
+                    + MAX_SEARCH_DEPTH + " matches");
+        }
+
+        JobHits hits = jobSearchIndex.search(query, pageNumber, pageSize);
+        return new JobSearchPage(loadInOrder(hits.jobIds()), hits.total(), pageNumber, pageSize);
+    }
+
+    /**
+     * Jobs paying within a yearly salary range in one currency, highest paying first
+     */
+    public JobSearchPage searchBySalary(String currency, Long minSalary, Long maxSalary, int page, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_FEED_SIZE));
+        int pageNumber = Math.max(0, page);
+
+        JobHits hits = salaryRangeIndex.search(currency, minSalary, maxSalary, pageNumber, pageSize);
+        return new JobSearchPage(loadInOrder(hits.jobIds()), hits.total(), pageNumber, pageSize);
+    }
+
+    /**
+     * Facet counts for location, job type, experience level and posted date under the given filters
+     */
+    public Map<String, Object> getFacets(String location, String jobType, String experienceLevel, String postedWithin) {
+        Map<String, String> filters = new HashMap<>();
+        filters.put(JobFacetIndex.LOCATION, location);
+        filters.put(JobFacetIndex.JOB_TYPE, jobType);
+        filters.put(JobFacetIndex.EXPERIENCE_LEVEL, experienceLevel);
+        filters.put(JobFacetIndex.POSTED_WITHIN, postedWithin);
+        return jobFacetIndex.counts(filters);
+    }
+
+    /**
+     * Autocomplete suggestions for titles, companies and locations, most frequent first
+     */
+    public List<Map<String, Object>> suggest(String prefix, int limit) {
+        return suggestionIndex.suggest(prefix, Math.max(1, Math.min(limit, MAX_SUGGESTIONS)));
+    }
+
     public Job getJobById(Long id) {
-        return jobRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Job not found with id: " + id));
+        Job job = jobCache.getJob(id, () -> jobRepository.findById(id).orElse(null));
+        if (job == null) {
+            throw new RuntimeException("Job not found with id: " + id);
+        }
+        return job;
     }
 
     public List<Job> getJobsByRecruiterId(Long recruiterId) {
-        return jobRepository.findByRecruiterId(recruiterId);
+        long[] ids = jobCache.getRecruiterJobIds(recruiterId, () -> jobRepository.findByRecruiterId(recruiterId));
+        Map<Long, Job> byId = jobCache.getJobs(ids);
+        if (byId.size() < ids.length) {
+            List<Long> missing = new ArrayList<>();
+            for (long id : ids) {
+                if (!byId.containsKey(id)) {
+                    missing.add(id);
+                }
+            }
+            long before = jobCache.invalidationCount();
+            List<Job> loaded = jobRepository.findAllById(missing);
+            jobCache.putJobs(loaded, before);
+            for (Job job : loaded) {
+                byId.put(job.getId(), job);
+            }
+        }
+
+        // Ids whose job has since been deleted simply drop out
+        List<Job> jobs = new ArrayList<>(ids.length);
+        for (long id : ids) {
+            Job job = byId.get(id);
+            if (job != null) {
+                jobs.add(job);
+            }
+        }
+        return jobs;
+    }
+
+    /**
+     * Change counter for the job collection, used to build ETags for job reads
+     */
+    public long getJobsVersion() {
+        return jobsVersion.get();
+    }
+
+    public Map<String, Object> getCacheStats() {
+        return jobCache.stats();
     }
 
     public Job create(Job job) {
@@ -43,8 +242,12 @@ public class JobService {
 
         job.setRecruiter(recruiter);
         job.setPostedDate(LocalDate.now());
+        applySalary(job);
 
-        return jobRepository.save(job);
+        Job saved = jobRepository.save(job);
+        onJobSaved(saved);
+        jobCache.invalidateRecruiter(recruiter.getId());
+        return saved;
     }
 
     public Job update(Long id, Job jobData) {
@@ -56,37 +259,198 @@ public class JobService {
         job.setLocation(jobData.getLocation());
         job.setDescription(jobData.getDescription());
         job.setSalaryRange(jobData.getSalaryRange());
+        applySalary(job);
         job.setJobType(jobData.getJobType());
         job.setExperienceLevel(jobData.getExperienceLevel());
-        job.setPostedDate(jobData.getPostedDate());
+        // Keep the original posted date when the client does not send one; the feed orders by it
+        if (jobData.getPostedDate() != null) {
+            job.setPostedDate(jobData.getPostedDate());
+        }
 
-        return jobRepository.save(job);
+        Job saved = jobRepository.save(job);
+        onJobSaved(saved);
+        return saved;
     }
 
     public void delete(Long id) {
         Job job = jobRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Job not found with id: " + id));
         jobRepository.delete(job);
+        onJobDeleted(id);
+        if (job.getRecruiter() != null) {
+            jobCache.invalidateRecruiter(job.getRecruiter().getId());
+        }
     }
     
     /**
      * Force delete job - removes all saved references first, then deletes the job
      */
     public void forceDeleteJob(Long jobId) {
+        Long recruiterId = recruiterIdOf(jobId);
         // Then delete the job itself
         jobRepository.deleteById(jobId);
+        onJobDeleted(jobId);
+        if (recruiterId != null) {
+            jobCache.invalidateRecruiter(recruiterId);
+        }
     }
     
     /**
      * Alternative method using native query to delete all saved jobs for a job
      */
     public void deleteJobWithSavedJobs(Long jobId) {
+        Long recruiterId = recruiterIdOf(jobId);
         // Delete all saved job records for this job using native query
         jobRepository.deleteAllByJobId(jobId);
         
         // Delete the job
         jobRepository.deleteById(jobId);
+        onJobDeleted(jobId);
+        if (recruiterId != null) {
+            jobCache.invalidateRecruiter(recruiterId);
+        }
+    }
+
+    // Read before deleting: the recruiter's cached job list has to be dropped afterwards
+    private Long recruiterIdOf(Long jobId) {
+        return jobRepository.findById(jobId)
+                .map(Job::getRecruiter)
+                .map(Recruiter::getId)
+                .orElse(null);
+    }
+
+    /**
+     * Jobs best matching a seeker's profile skills, best first, leaving out jobs already applied to
+     */
+    public List<RecommendedJob> recommendForSeeker(Long seekerId, int limit) {
+        int count = Math.max(1, Math.min(limit, MAX_RECOMMENDATIONS));
+
+        // Profiles are vectorised on first use; ProfileService keeps them current afterwards
+        if (!jobRecommender.hasProfile(seekerId)) {
+            profileRepository.findBySeekerId(seekerId)
+                    .ifPresent(profile -> jobRecommender.indexProfile(seekerId, profile));
+        }
+
+        TopKHeap.Entries best = jobRecommender.recommend(seekerId, count,
+                new HashSet<>(applicationRepository.findJobIdsBySeekerId(seekerId)));
+        List<Job> jobs = loadInOrder(best.keys());
+        List<RecommendedJob> result = new ArrayList<>(jobs.size());
+        int i = 0;
+        for (Job job : jobs) {
+            while (best.keys()[i] != job.getId()) {
+                i++;
+            }
+            result.add(new RecommendedJob(job, best.scores()[i]));
+        }
+        return result;
+    }
+
+    /**
+     * Jobs trending by recent saves, applications and freshness, from the last ranking refresh
+     */
+    public List<TrendingJob> getTrending(int limit) {
+        return trendingJobs.trending(Math.max(1, Math.min(limit, TrendingJobs.MAX_TRENDING)));
+    }
+
+    /**
+     * Save-to-accept funnel of each of a recruiter's jobs
+     */
+    public List<JobFunnel> getRecruiterFunnels(Long recruiterId) {
+        long[] ids = jobCache.getRecruiterJobIds(recruiterId, () -> jobRepository.findByRecruiterId(recruiterId));
+        if (ids.length == 0) {
+            return List.of();
+        }
+        List<Long> jobIds = new ArrayList<>(ids.length);
+        for (long id : ids) {
+            jobIds.add(id);
+        }
+        return jobFunnels.funnels(jobIds);
+    }
+
+    /**
+     * One page of a recruiter's jobs, newest first, each with its application counts per status.
+     * The page and the job count come from the database; counts from the in-memory status counters.
+     */
+    public RecruiterDashboardPage getRecruiterDashboard(Long recruiterId, int page, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_DASHBOARD_SIZE));
+        int pageNumber = Math.max(0, page);
+
+        Page<Job> jobs = jobRepository.findByRecruiterIdOrderByPostedDateDescIdDesc(recruiterId,
+                PageRequest.of(pageNumber, pageSize));
+        List<RecruiterDashboardJob> result = new ArrayList<>(jobs.getNumberOfElements());
+        for (Job job : jobs.getContent()) {
+            result.add(new RecruiterDashboardJob(job, statusCounters.jobStatusCounts(job.getId())));
+        }
+        return new RecruiterDashboardPage(result, (int) jobs.getTotalElements(), pageNumber, pageSize);
+    }
+
+    /**
+     * Fill the numeric salary columns from the free-form salaryRange text
+     */
+    static void applySalary(Job job) {
+        SalaryParser.Salary salary = SalaryParser.parse(job.getSalaryRange());
+        job.setSalaryMin(salary == null ? null : salary.min());
+        job.setSalaryMax(salary == null ? null : salary.max());
+        job.setSalaryCurrency(salary == null ? null : salary.currency());
+        job.setSalaryPeriod(salary == null ? null : salary.period());
+    }
+
+    // findAllById does not keep order, so put the rows back in the index's order
+    private List<Job> loadInOrder(long[] jobIds) {
+        List<Long> ids = new ArrayList<>(jobIds.length);
+        for (long id : jobIds) {
+            ids.add(id);
+        }
+        Map<Long, Job> byId = new HashMap<>();
+        for (Job job : jobRepository.findAllById(ids)) {
+            byId.put(job.getId(), job);
+        }
+        List<Job> ordered = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            Job job = byId.get(id);
+            if (job != null) {
+                ordered.add(job);
+            }
+        }
+        return ordered;
+    }
+
+    /**
+     * Keep the in-memory job indexes in step with a committed save
+     */
+    private void onJobSaved(Job job) {
+        jobsVersion.incrementAndGet();
+        jobCache.invalidateJob(job.getId());
+        jobIndexBootstrap.applyLive(job.getId(), () -> {
+            jobSearchIndex.index(job);
+            jobFacetIndex.index(job);
+            suggestionIndex.indexJob(job);
+            salaryRangeIndex.index(job);
+            jobRecommender.indexJob(job);
+        });
+        applicantRanker.invalidateJob(job.getId());
+        trendingJobs.indexJob(job);
+    }
+
+    private void onJobDeleted(Long jobId) {
+        jobsVersion.incrementAndGet();
+        jobCache.invalidateJob(jobId);
+        jobIndexBootstrap.applyLive(jobId, () -> {
+            jobSearchIndex.remove(jobId);
+            jobFacetIndex.remove(jobId);
+            suggestionIndex.removeJob(jobId);
+            salaryRangeIndex.remove(jobId);
+            jobRecommender.removeJob(jobId);
+        });
+        applicantRanker.invalidateJob(jobId);
+        membershipCache.forgetJob(jobId);
+        statusCounters.forgetJob(jobId);
+        engagementCounters.forgetJob(jobId);
+        trendingJobs.removeJob(jobId);
+        jobFunnels.invalidate(jobId);
+    }
+
+    private static String blankToNull(String value) {
+        return (value == null || value.isBlank()) ? null : value.trim();
     }
-        
-    
 }
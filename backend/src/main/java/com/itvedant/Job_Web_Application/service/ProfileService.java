@@ -7,18 +7,29 @@ import com.itvedant.Job_Web_Application.repository.SeekerRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Service
 public class ProfileService {
     
+    // Bumped on every profile write; seeded with the boot time so versions never repeat across restarts
+    private final AtomicLong profilesVersion = new AtomicLong(System.currentTimeMillis());
+    
     @Autowired
     private ProfileRepository profileRepository;
     
     @Autowired
     private SeekerRepository seekerRepository;
     
+    @Autowired
+    private JobRecommender jobRecommender;
+
+    @Autowired
+    private ApplicantRanker applicantRanker;
+    
     /**
      * Get profile by seeker ID
      */
@@ -28,6 +39,20 @@ public class ProfileService {
     }
     
     
+    /**
+     * Last update time of a seeker's profile without loading it, or null when there is none
+     */
+    public LocalDateTime getProfileVersion(Long seekerId) {
+        return profileRepository.findUpdatedAtBySeekerId(seekerId).orElse(null);
+    }
+    
+    /**
+     * Change counter for the profile collection
+     */
+    public long getProfilesVersion() {
+        return profilesVersion.get();
+    }
+    
     public boolean profileExists(Long seekerId) {
         return profileRepository.existsBySeekerId(seekerId);
     }
@@ -57,7 +82,10 @@ public class ProfileService {
         profile.setAvailability(profileData.getAvailability());
         profile.setPhoneNumber(profileData.getPhoneNumber());
         
-        return profileRepository.save(profile);
+        Profile saved = profileRepository.save(profile);
+        jobRecommender.indexProfile(seekerId, saved);
+        profilesVersion.incrementAndGet();
+        return saved;
     }
     
     /**
@@ -77,7 +105,10 @@ public class ProfileService {
         profile.setAvailability(profileData.getAvailability());
         profile.setPhoneNumber(profileData.getPhoneNumber());
         
-        return profileRepository.save(profile);
+        Profile saved = profileRepository.save(profile);
+        jobRecommender.indexProfile(saved.getSeeker().getId(), saved);
+        profilesVersion.incrementAndGet();
+        return saved;
     }
     
 //    For Update to pfofile
@@ -97,8 +128,11 @@ public class ProfileService {
         existingProfile.setAvailability(profileData.getAvailability());
         existingProfile.setPhoneNumber(profileData.getPhoneNumber());
         
-        // Save and return the updated profile
-        return profileRepository.save(existingProfile);
+        // Save, refresh the skill vector used for recommendations and return the updated profile
+        Profile saved = profileRepository.save(existingProfile);
+        jobRecommender.indexProfile(seekerId, saved);
+        profilesVersion.incrementAndGet();
+        return saved;
     }
     
     /**
@@ -112,9 +146,11 @@ public class ProfileService {
      * Delete profile
      */
     public void deleteProfile(Long profileId) {
-        if (!profileRepository.existsById(profileId)) {
-            throw new RuntimeException("Profile not found");
-        }
+        Profile profile = profileRepository.findById(profileId)
+                .orElseThrow(() -> new RuntimeException("Profile not found"));
         profileRepository.deleteById(profileId);
+        jobRecommender.removeProfile(profile.getSeeker().getId());
+        applicantRanker.forgetSeeker(profile.getSeeker().getId());
+        profilesVersion.incrementAndGet();
     }
 }
\ No newline at end of file
@@ -5,6 +5,7 @@ import com.itvedant.Job_Web_Application.repository.RecruiterProfileRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 @Service
@@ -12,6 +13,9 @@ public class RecruiterProfileService {
     
     @Autowired
     private RecruiterProfileRepository recruiterProfileRepository;
+
+    @Autowired
+    private SuggestionIndex suggestionIndex;
     
     /**
      * Get profile by recruiter ID
@@ -33,6 +37,13 @@ public class RecruiterProfileService {
         }
     }
     
+    /**
+     * Last update time of a recruiter's profile without loading it, or null when unknown
+     */
+    public LocalDateTime getProfileVersion(Long recruiterId) {
+        return recruiterProfileRepository.findUpdatedAtByRecruiterId(recruiterId).orElse(null);
+    }
+    
     /**
      * Check if profile exists for recruiter
      */
@@ -64,6 +75,7 @@ public class RecruiterProfileService {
             }
             
             RecruiterProfile savedProfile = recruiterProfileRepository.save(profile);
+            suggestionIndex.indexRecruiterCompany(savedProfile.getRecruiterId(), savedProfile.getCompanyName());
             System.out.println("Profile created successfully: " + savedProfile);
             return savedProfile;
         } catch (RuntimeException e) {
@@ -101,6 +113,7 @@ public class RecruiterProfileService {
                 profile.setWebsite(updatedProfile.getWebsite());
                 
                 RecruiterProfile savedProfile = recruiterProfileRepository.save(profile);
+                suggestionIndex.indexRecruiterCompany(recruiterId, savedProfile.getCompanyName());
                 System.out.println("Profile updated successfully: " + savedProfile);
                 return savedProfile;
             } else {
@@ -108,6 +121,7 @@ public class RecruiterProfileService {
                 // Create new profile if doesn't exist
                 updatedProfile.setRecruiterId(recruiterId);
                 RecruiterProfile savedProfile = recruiterProfileRepository.save(updatedProfile);
+                suggestionIndex.indexRecruiterCompany(recruiterId, savedProfile.getCompanyName());
                 System.out.println("New profile created: " + savedProfile);
                 return savedProfile;
             }
@@ -125,6 +139,7 @@ public class RecruiterProfileService {
         System.out.println("Deleting profile for recruiter ID: " + recruiterId);
         try {
             recruiterProfileRepository.deleteByRecruiterId(recruiterId);
+            suggestionIndex.removeRecruiterCompany(recruiterId);
             System.out.println("Profile deleted successfully for recruiter ID: " + recruiterId);
         } catch (Exception e) {
             System.err.println("Error deleting profile: " + e.getMessage());
@@ -0,0 +1,117 @@
+package com.itvedant.Job_Web_Application.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Turns the free-form Job.salaryRange text ("₹5-8 LPA", "$80,000 - $100,000", "40k/month",
+ * "$30/hr") into numbers. Amounts are normalised to a yearly figure in whole currency units so
+ * ranges stated per hour or per month can be compared and indexed together.
+ */
+public final class SalaryParser {
+
+    public static final String PERIOD_YEAR = "YEAR";
+    public static final String PERIOD_MONTH = "MONTH";
+    public static final String PERIOD_HOUR = "HOUR";
+
+    private static final int HOURS_PER_YEAR = 2080;
+
+    private static final Pattern AMOUNT = Pattern.compile(
+            "(\\d+(?:[.,]\\d+)*)\\s*(crores?|cr|lakhs?|lacs?|lpa|l|k|m)?(?![a-z])");
+
+    // What may sit between the two ends of a range once currency marks are dropped: "5-8", "5 to 8"
+    private static final Pattern RANGE_SEPARATOR = Pattern.compile(
+            "\\s*(?:[-–—]|to)\\s*(?:[₹$€£]|rs\\.?|inr|usd|eur|gbp)?\\s*");
+
+    private SalaryParser() {}
+
+    public static Salary parse(String text) {
+        if (text == null || text.isBlank()) {
+            return null;
+        }
+        String value = text.toLowerCase(Locale.ROOT);
+
+        // The first amount, and the next one only when it closes a range; other numbers in the
+        // text ("Up to 10 LPA, 2 years") are not salaries
+        List<Double> amounts = new ArrayList<>();
+        List<Double> multipliers = new ArrayList<>();
+        Matcher matcher = AMOUNT.matcher(value);
+        int previousEnd = -1;
+        while (amounts.size() < 2 && matcher.find()) {
+            if (previousEnd >= 0 && !RANGE_SEPARATOR.matcher(value.substring(previousEnd, matcher.start())).matches()) {
+                break;
+            }
+            try {
+                amounts.add(Double.parseDouble(matcher.group(1).replace(",", "")));
+            } catch (NumberFormatException e) {
+                break;
+            }
+            multipliers.add(multiplier(matcher.group(2)));
+            previousEnd = matcher.end();
+        }
+        if (amounts.isEmpty()) {
+            return null;
+        }
+
+        // "5-8 LPA": a unit written once at the end applies to the whole range
+        double lastMultiplier = multipliers.get(multipliers.size() - 1);
+        String period = period(value);
+        double yearly = period.equals(PERIOD_HOUR) ? HOURS_PER_YEAR : period.equals(PERIOD_MONTH) ? 12 : 1;
+
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+        for (int i = 0; i < amounts.size(); i++) {
+            double multiplier = multipliers.get(i) > 1 ? multipliers.get(i) : lastMultiplier;
+            long amount = Math.round(amounts.get(i) * multiplier * yearly);
+            min = Math.min(min, amount);
+            max = Math.max(max, amount);
+        }
+        return new Salary(min, max, currency(value), period);
+    }
+
+    private static double multiplier(String unit) {
+        if (unit == null) {
+            return 1;
+        }
+        return switch (unit) {
+            case "k" -> 1_000;
+            case "l", "lpa", "lakh", "lakhs", "lac", "lacs" -> 100_000;
+            case "m" -> 1_000_000;
+            case "cr", "crore", "crores" -> 10_000_000;
+            default -> 1;
+        };
+    }
+
+    private static String period(String value) {
+        if (value.matches(".*(/\\s*h(ou)?r|per hour|hourly|an hour).*")) {
+            return PERIOD_HOUR;
+        }
+        if (value.matches(".*(/\\s*mo(nth)?|per month|monthly|a month|\\bpm\\b).*")) {
+            return PERIOD_MONTH;
+        }
+        return PERIOD_YEAR;
+    }
+
+    private static String currency(String value) {
+        // "rs" only counts in front of an amount, so words like "RSUs" don't read as rupees
+        if (value.contains("₹") || value.contains("inr") || value.matches(".*\\brs\\.?\\s*\\d.*")
+                || value.matches(".*\\d\\s*(lpa|lakhs?|lacs?|l|crores?|cr)\\b.*")) {
+            return "INR";
+        }
+        if (value.contains("$") || value.contains("usd")) {
+            return "USD";
+        }
+        if (value.contains("€") || value.contains("eur")) {
+            return "EUR";
+        }
+        if (value.contains("£") || value.contains("gbp")) {
+            return "GBP";
+        }
+        return null;
+    }
+
+    public record Salary(long min, long max, String currency, String period) {}
+}
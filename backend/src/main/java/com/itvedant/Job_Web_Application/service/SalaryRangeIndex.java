@@ -0,0 +1,206 @@
+package com.itvedant.Job_Web_Application.service;
+
+import com.itvedant.Job_Web_Application.entities.Job;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Salary range lookups over the parsed yearly salary columns of Job.
+ * Per currency, jobs are kept in two sets of primitive arrays, one sorted by (salaryMax, id) and
+ * one by (salaryMin, id). "Pays at least X" is a binary search on the first and comes out already
+ * ordered by salary; a range query binary-searches both and scans only the smaller candidate side.
+ */
+@Component
+public class SalaryRangeIndex {
+
+    private static final String NO_CURRENCY = "";
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<String, Salaries> byCurrency = new HashMap<>();
+
+    // Where each job currently sits, so updates can take the old position out
+    private final Map<Long, SalaryKey> keyByJob = new HashMap<>();
+
+    public void index(Job job) {
+        if (job == null || job.getId() == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            removeLocked(job.getId());
+            if (job.getSalaryMax() == null) {
+                return;
+            }
+            String currency = job.getSalaryCurrency() == null ? NO_CURRENCY : job.getSalaryCurrency();
+            long max = job.getSalaryMax();
+            long min = job.getSalaryMin() == null ? max : job.getSalaryMin();
+            Salaries salaries = byCurrency.computeIfAbsent(currency, c -> new Salaries());
+            salaries.byMax.insert(max, min, job.getId());
+            salaries.byMin.insert(min, max, job.getId());
+            keyByJob.put(job.getId(), new SalaryKey(currency, min, max));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long jobId) {
+        if (jobId == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            removeLocked(jobId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Jobs in a currency whose range reaches at least minSalary and starts at most maxSalary
+     * (either bound may be null), highest paying first. Salaries are only comparable within one
+     * currency, so the currency is required.
+     */
+    public JobHits search(String currency, Long minSalary, Long maxSalary, int page, int size) {
+        if (currency == null || currency.isBlank()) {
+            throw new IllegalArgumentException("currency is required");
+        }
+        String key = currency.trim().toUpperCase();
+        long from = (long) page * size;
+
+        lock.readLock().lock();
+        try {
+            Salaries salaries = byCurrency.get(key);
+            if (salaries == null || size <= 0 || page < 0) {
+                return new JobHits(new long[0], 0);
+            }
+            SortedSalaries byMax = salaries.byMax;
+            SortedSalaries byMin = salaries.byMin;
+
+            int lowest = minSalary == null ? 0 : byMax.lowerBound(minSalary, Long.MIN_VALUE);
+            int aboveMin = byMax.size - lowest;
+            if (maxSalary == null) {
+                // Only a lower bound: the matches are one contiguous slice read from the top
+                int start = (int) Math.min(from, aboveMin);
+                int count = Math.min(size, aboveMin - start);
+                long[] ids = new long[count];
+                for (int i = 0; i < count; i++) {
+                    ids[i] = byMax.ids[byMax.size - 1 - start - i];
+                }
+                return new JobHits(ids, aboveMin);
+            }
+
+            // Jobs starting at most maxSalary are a prefix of byMin; scan whichever side is smaller
+            int belowMax = maxSalary == Long.MAX_VALUE ? byMin.size : byMin.lowerBound(maxSalary + 1, Long.MIN_VALUE);
+            if (aboveMin <= belowMax) {
+                long[] ids = new long[size];
+                int found = 0;
+                int total = 0;
+                for (int i = byMax.size - 1; i >= lowest; i--) {
+                    if (byMax.others[i] > maxSalary) {
+                        continue;
+                    }
+                    if (total >= from && found < size) {
+                        ids[found++] = byMax.ids[i];
+                    }
+                    total++;
+                }
+                return new JobHits(Arrays.copyOf(ids, found), total);
+            }
+
+            // Matches come out of byMin unordered; a heap of the top from + size puts them by salary
+            int total = 0;
+            TopKHeap heap = null;
+            long floor = minSalary == null ? Long.MIN_VALUE : minSalary;
+            for (int i = 0; i < belowMax; i++) {
+                if (byMin.others[i] >= floor) {
+                    if (heap == null) {
+                        heap = new TopKHeap((int) Math.min(from + size, belowMax));
+                    }
+                    heap.offer(byMin.ids[i], byMin.others[i]);
+                    total++;
+                }
+            }
+            if (heap == null || from >= total) {
+                return new JobHits(new long[0], total);
+            }
+            long[] ranked = heap.drainDescending();
+            return new JobHits(Arrays.copyOfRange(ranked, (int) from, ranked.length), total);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void removeLocked(Long jobId) {
+        SalaryKey previous = keyByJob.remove(jobId);
+        if (previous != null) {
+            Salaries salaries = byCurrency.get(previous.currency());
+            salaries.byMax.delete(previous.max(), jobId);
+            salaries.byMin.delete(previous.min(), jobId);
+        }
+    }
+
+    private record SalaryKey(String currency, long min, long max) {}
+
+    private static final class Salaries {
+        final SortedSalaries byMax = new SortedSalaries();
+        final SortedSalaries byMin = new SortedSalaries();
+    }
+
+    /**
+     * Parallel arrays sorted by (key, id), carrying the other end of each range alongside
+     */
+    private static final class SortedSalaries {
+        long[] keys = new long[64];
+        long[] others = new long[64];
+        long[] ids = new long[64];
+        int size;
+
+        int lowerBound(long key, long id) {
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (keys[mid] < key || (keys[mid] == key && ids[mid] < id)) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        void insert(long key, long other, long id) {
+            if (size == keys.length) {
+                int capacity = size * 2;
+                keys = Arrays.copyOf(keys, capacity);
+                others = Arrays.copyOf(others, capacity);
+                ids = Arrays.copyOf(ids, capacity);
+            }
+            int at = lowerBound(key, id);
+            int tail = size - at;
+            System.arraycopy(keys, at, keys, at + 1, tail);
+            System.arraycopy(others, at, others, at + 1, tail);
+            System.arraycopy(ids, at, ids, at + 1, tail);
+            keys[at] = key;
+            others[at] = other;
+            ids[at] = id;
+            size++;
+        }
+
+        void delete(long key, long id) {
+            int at = lowerBound(key, id);
+            if (at < size && keys[at] == key && ids[at] == id) {
+                int tail = size - at - 1;
+                System.arraycopy(keys, at + 1, keys, at, tail);
+                System.arraycopy(others, at + 1, others, at, tail);
+                System.arraycopy(ids, at + 1, ids, at, tail);
+                size--;
+            }
+        }
+    }
+}
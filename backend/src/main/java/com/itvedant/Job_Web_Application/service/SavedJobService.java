@@ -1,28 +1,53 @@
 package com.itvedant.Job_Web_Application.service;
 
-import com.itvedant.Job_Web_Application.entities.Job;
 import com.itvedant.Job_Web_Application.entities.SavedJob;
 import com.itvedant.Job_Web_Application.entities.SavedJobWithDetails;
+import com.itvedant.Job_Web_Application.entities.SavedJobsPage;
 import com.itvedant.Job_Web_Application.repository.SavedJobRepository;
-import com.itvedant.Job_Web_Application.repository.JobRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Service
 @Transactional
 public class SavedJobService {
     
+    public static final int DEFAULT_SAVED_JOBS_PAGE_SIZE = 20;
+    public static final int MAX_SAVED_JOBS_PAGE_SIZE = 100;
+    
+    // Ids per statement in bulk unsaves, well under MySQL's placeholder limit
+    private static final int BULK_CHUNK_SIZE = 1000;
+    
+    // Bumped after every committed saved-job write; seeded with the boot time
+    private final AtomicLong savedJobsVersion = new AtomicLong(System.currentTimeMillis());
+    
     @Autowired
     private SavedJobRepository savedJobRepository;
     
     @Autowired
-    private JobRepository jobRepository;
+    private JdbcTemplate jdbcTemplate;
+    
+    @Autowired
+    private SeekerJobMembershipCache membershipCache;
+    
+    @Autowired
+    private JobEngagementCounters engagementCounters;
+    
+    @Autowired
+    private TrendingJobs trendingJobs;
+    
+    @Autowired
+    private JobFunnels jobFunnels;
     
     /**
      * Save a job for a seeker
@@ -34,7 +59,13 @@ public class SavedJobService {
         }
         
         SavedJob savedJob = new SavedJob(jobId, seekerId);
-        return savedJobRepository.save(savedJob);
+        SavedJob saved = savedJobRepository.save(savedJob);
+        membershipCache.markSaved(seekerId, jobId, true);
+        engagementCounters.recordSave(jobId);
+        trendingJobs.recordSave(jobId);
+        jobFunnels.invalidate(jobId);
+        bumpVersion();
+        return saved;
     }
     
     /**
@@ -45,25 +76,34 @@ public class SavedJobService {
     }
     
     /**
-     * Get all saved jobs with job details for a seeker
+     * One page of a seeker's saved jobs with job details, newest first, read with a single join.
+     * Saved rows pointing at deleted jobs are left out of both the page and the total. Given the
+     * savedDate and id of the last row already shown, the page continues right after it instead
+     * of starting at page * size.
      */
-    public List<SavedJobWithDetails> getSavedJobsWithDetailsBySeeker(Long seekerId) {
-        List<SavedJob> savedJobs = savedJobRepository.findBySeekerIdOrderBySavedDateDesc(seekerId);
-        
-        return savedJobs.stream()
-                .map(savedJob -> {
-                    Optional<Job> jobOpt = jobRepository.findById(savedJob.getJobId());
-                    Job job = jobOpt.orElse(null);
-                    return new SavedJobWithDetails(savedJob, job);
-                })
-                .collect(Collectors.toList());
+    public SavedJobsPage getSavedJobsWithDetailsBySeeker(Long seekerId, int page, int size,
+                                                         LocalDateTime cursorDate, Long cursorId) {
+        int pageSize = Math.max(1, Math.min(size, MAX_SAVED_JOBS_PAGE_SIZE));
+        int pageNumber = Math.max(0, page);
+        if (cursorDate != null && cursorId != null) {
+            List<SavedJobWithDetails> savedJobs = savedJobRepository.findDetailsBySeekerIdBefore(seekerId,
+                    cursorDate, cursorId, PageRequest.of(0, pageSize));
+            return new SavedJobsPage(savedJobs, savedJobRepository.countExistingBySeekerId(seekerId),
+                    pageNumber, pageSize);
+        }
+        List<SavedJobWithDetails> savedJobs = savedJobRepository.findDetailsBySeekerId(seekerId,
+                PageRequest.of(pageNumber, pageSize));
+        long total = savedJobs.size() < pageSize && (pageNumber == 0 || !savedJobs.isEmpty())
+                ? (long) pageNumber * pageSize + savedJobs.size()
+                : savedJobRepository.countExistingBySeekerId(seekerId);
+        return new SavedJobsPage(savedJobs, total, pageNumber, pageSize);
     }
     
     /**
      * Check if a job is saved by a seeker
      */
     public boolean isJobSaved(Long jobId, Long seekerId) {
-        return savedJobRepository.existsByJobIdAndSeekerId(jobId, seekerId);
+        return membershipCache.isSaved(seekerId, jobId);
     }
     
     /**
@@ -76,6 +116,9 @@ public class SavedJobService {
         }
         
         savedJobRepository.deleteByJobIdAndSeekerId(jobId, seekerId);
+        membershipCache.markSaved(seekerId, jobId, false);
+        jobFunnels.invalidate(jobId);
+        bumpVersion();
     }
     
     /**
@@ -93,14 +136,35 @@ public class SavedJobService {
     }
     
     /**
-     * Bulk unsave jobs for a seeker
+     * Bulk unsave jobs for a seeker with set-based statements, BULK_CHUNK_SIZE ids at a time.
+     * Each chunk locks the matching rows, then deletes them, so the returned ids are exactly the
+     * ones removed. Caches and counters are updated once for the whole batch.
      */
-    public void unsaveMultipleJobs(Long seekerId, List<Long> jobIds) {
-        for (Long jobId : jobIds) {
-            if (savedJobRepository.existsByJobIdAndSeekerId(jobId, seekerId)) {
-                savedJobRepository.deleteByJobIdAndSeekerId(jobId, seekerId);
+    public List<Long> unsaveMultipleJobs(Long seekerId, List<Long> jobIds) {
+        List<Long> ids = new ArrayList<>(new LinkedHashSet<>(jobIds));
+        ids.removeIf(Objects::isNull);
+        List<Long> removed = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += BULK_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(ids.size(), from + BULK_CHUNK_SIZE));
+            String in = String.join(",", Collections.nCopies(chunk.size(), "?"));
+            List<Object> args = new ArrayList<>(chunk.size() + 1);
+            args.add(seekerId);
+            args.addAll(chunk);
+            List<Long> found = jdbcTemplate.queryForList("SELECT DISTINCT job_id FROM saved_jobs"
+                    + " WHERE seeker_id = ? AND job_id IN (" + in + ") FOR UPDATE", Long.class, args.toArray());
+            if (!found.isEmpty()) {
+                jdbcTemplate.update("DELETE FROM saved_jobs WHERE seeker_id = ? AND job_id IN (" + in + ")",
+                        args.toArray());
+                removed.addAll(found);
             }
         }
+        
+        if (!removed.isEmpty()) {
+            membershipCache.markUnsaved(seekerId, removed);
+            jobFunnels.invalidateAll(removed);
+            bumpVersion();
+        }
+        return removed;
     }
     
     /**
@@ -123,10 +187,24 @@ public class SavedJobService {
             if (!savedJobs.isEmpty()) {
                 // Delete all saved job records for this job
                 savedJobRepository.deleteByJobId(jobId);
+                membershipCache.unsaveEverywhere(jobId);
+                jobFunnels.invalidate(jobId);
+                bumpVersion();
                 System.out.println("Deleted " + savedJobs.size() + " saved job references for job ID: " + jobId);
             }
         } catch (Exception e) {
             throw new RuntimeException("Failed to delete saved job references for job ID: " + jobId + ". Error: " + e.getMessage());
         }
     }
-}
\ No newline at end of file
+    
+    /**
+     * Change counter for saved jobs, used to build ETags for saved-job reads
+     */
+    public long getSavedJobsVersion() {
+        return savedJobsVersion.get();
+    }
+    
+    private void bumpVersion() {
+        AfterCommit.run(savedJobsVersion::incrementAndGet);
+    }
+}
@@ -0,0 +1,288 @@
+package com.itvedant.Job_Web_Application.service;
+
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Node-local cache of which jobs each active seeker has saved and applied to, as compressed
+ * bitmaps of job ids. A seeker is loaded with one query on first use and kept current by the
+ * services that write saved_jobs and applications; least recently used seekers are evicted once
+ * the bitmaps outgrow the memory budget.
+ */
+@Component
+public class SeekerJobMembershipCache {
+
+    // Rough per-seeker cost of the map entry and the two bitmap headers
+    private static final long ENTRY_OVERHEAD_BYTES = 160;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${app.membership-cache.max-bytes:33554432}")
+    private long maxBytes;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    // Access-ordered, so iteration starts at the least recently used seeker
+    private final LinkedHashMap<Long, Membership> seekers = new LinkedHashMap<>(256, 0.75f, true);
+    private long usedBytes;
+
+    // Loads in flight per seeker; a write for that seeker marks them stale so their result is not kept
+    private final Map<Long, LoadGuard> loading = new HashMap<>();
+
+    public boolean isSaved(Long seekerId, Long jobId) {
+        int id = Math.toIntExact(jobId);
+        lock.lock();
+        try {
+            Membership membership = seekers.get(seekerId);
+            if (membership != null) {
+                return membership.saved.contains(id);
+            }
+        } finally {
+            lock.unlock();
+        }
+        return load(seekerId).saved.contains(id);
+    }
+
+    public boolean hasApplied(Long seekerId, Long jobId) {
+        int id = Math.toIntExact(jobId);
+        lock.lock();
+        try {
+            Membership membership = seekers.get(seekerId);
+            if (membership != null) {
+                return membership.applied.contains(id);
+            }
+        } finally {
+            lock.unlock();
+        }
+        return load(seekerId).applied.contains(id);
+    }
+
+    /**
+     * Saved and applied flags for each job id, in input order: [i][0] saved, [i][1] applied
+     */
+    public boolean[][] flags(Long seekerId, List<Long> jobIds) {
+        Membership membership;
+        lock.lock();
+        try {
+            membership = seekers.get(seekerId);
+            if (membership != null) {
+                return flagsOf(membership, jobIds);
+            }
+        } finally {
+            lock.unlock();
+        }
+        membership = load(seekerId);
+        lock.lock();
+        try {
+            return flagsOf(membership, jobIds);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void markSaved(Long seekerId, Long jobId, boolean saved) {
+        AfterCommit.run(() -> update(seekerId, jobId, saved, true));
+    }
+
+    public void markApplied(Long seekerId, Long jobId, boolean applied) {
+        AfterCommit.run(() -> update(seekerId, jobId, applied, false));
+    }
+
+    /**
+     * Clear the saved bit of many jobs for one seeker under a single lock
+     */
+    public void markUnsaved(Long seekerId, Collection<Long> jobIds) {
+        if (jobIds.isEmpty()) {
+            return;
+        }
+        AfterCommit.run(() -> {
+            lock.lock();
+            try {
+                Membership membership = seekers.get(seekerId);
+                if (membership == null) {
+                    markLoadStale(seekerId);
+                    return;
+                }
+                for (Long jobId : jobIds) {
+                    membership.saved.remove(Math.toIntExact(jobId));
+                }
+                long bytes = membership.sizeInBytes();
+                usedBytes += bytes - membership.bytes;
+                membership.bytes = bytes;
+            } finally {
+                lock.unlock();
+            }
+        });
+    }
+
+    /**
+     * Clear a deleted job from every cached seeker
+     */
+    public void forgetJob(Long jobId) {
+        AfterCommit.run(() -> clearJob(Math.toIntExact(jobId), true));
+    }
+
+    /**
+     * Clear a job's saved bit from every cached seeker
+     */
+    public void unsaveEverywhere(Long jobId) {
+        AfterCommit.run(() -> clearJob(Math.toIntExact(jobId), false));
+    }
+
+    private Membership load(Long seekerId) {
+        LoadGuard guard;
+        lock.lock();
+        try {
+            guard = loading.computeIfAbsent(seekerId, id -> new LoadGuard());
+            guard.loaders++;
+        } finally {
+            lock.unlock();
+        }
+
+        Membership loaded = new Membership();
+        try {
+            jdbcTemplate.query("""
+                    SELECT job_id, 0 AS kind FROM saved_jobs WHERE seeker_id = ?
+                    UNION ALL
+                    SELECT job_id, 1 AS kind FROM applications WHERE seeker_id = ?
+                    """,
+                    rs -> {
+                        int jobId = Math.toIntExact(rs.getLong("job_id"));
+                        (rs.getInt("kind") == 0 ? loaded.saved : loaded.applied).add(jobId);
+                    },
+                    seekerId, seekerId);
+        } catch (RuntimeException e) {
+            lock.lock();
+            try {
+                releaseGuard(seekerId, guard);
+            } finally {
+                lock.unlock();
+            }
+            throw e;
+        }
+        loaded.saved.runOptimize();
+        loaded.applied.runOptimize();
+
+        lock.lock();
+        try {
+            releaseGuard(seekerId, guard);
+            Membership current = seekers.get(seekerId);
+            if (current != null) {
+                return current;
+            }
+            // A write for this seeker landed while we were reading; serve this result but do not cache it
+            if (guard.stale) {
+                return loaded;
+            }
+            loaded.bytes = loaded.sizeInBytes();
+            seekers.put(seekerId, loaded);
+            usedBytes += loaded.bytes;
+            evictOverBudget();
+            return loaded;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void update(Long seekerId, Long jobId, boolean member, boolean savedSet) {
+        int id = Math.toIntExact(jobId);
+        lock.lock();
+        try {
+            Membership membership = seekers.get(seekerId);
+            if (membership == null) {
+                markLoadStale(seekerId);
+                return;
+            }
+            RoaringBitmap bitmap = savedSet ? membership.saved : membership.applied;
+            if (member) {
+                bitmap.add(id);
+            } else {
+                bitmap.remove(id);
+            }
+            long bytes = membership.sizeInBytes();
+            usedBytes += bytes - membership.bytes;
+            membership.bytes = bytes;
+            evictOverBudget();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void clearJob(int id, boolean includeApplied) {
+        lock.lock();
+        try {
+            // Any seeker being loaded may have had the job; those are rare, so drop them all
+            for (LoadGuard guard : loading.values()) {
+                guard.stale = true;
+            }
+            for (Membership membership : seekers.values()) {
+                membership.saved.remove(id);
+                if (includeApplied) {
+                    membership.applied.remove(id);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Callers hold the lock
+    private void markLoadStale(Long seekerId) {
+        LoadGuard guard = loading.get(seekerId);
+        if (guard != null) {
+            guard.stale = true;
+        }
+    }
+
+    // Callers hold the lock
+    private void releaseGuard(Long seekerId, LoadGuard guard) {
+        if (--guard.loaders == 0) {
+            loading.remove(seekerId);
+        }
+    }
+
+    private void evictOverBudget() {
+        Iterator<Membership> eldest = seekers.values().iterator();
+        while (usedBytes > maxBytes && eldest.hasNext()) {
+            usedBytes -= eldest.next().bytes;
+            eldest.remove();
+        }
+    }
+
+    private static boolean[][] flagsOf(Membership membership, List<Long> jobIds) {
+        boolean[][] flags = new boolean[jobIds.size()][2];
+        for (int i = 0; i < flags.length; i++) {
+            int id = Math.toIntExact(jobIds.get(i));
+            flags[i][0] = membership.saved.contains(id);
+            flags[i][1] = membership.applied.contains(id);
+        }
+        return flags;
+    }
+
+    private static final class LoadGuard {
+        int loaders;
+        boolean stale;
+    }
+
+    private static final class Membership {
+        final RoaringBitmap saved = new RoaringBitmap();
+        final RoaringBitmap applied = new RoaringBitmap();
+        long bytes;
+
+        long sizeInBytes() {
+            return ENTRY_OVERHEAD_BYTES + saved.getLongSizeInBytes() + applied.getLongSizeInBytes();
+        }
+    }
+}
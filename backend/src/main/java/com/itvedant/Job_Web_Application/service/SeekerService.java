@@ -1,6 +1,10 @@
 package com.itvedant.Job_Web_Application.service;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.springframework.stereotype.Service;
@@ -11,10 +15,17 @@ import com.itvedant.Job_Web_Application.repository.SeekerRepository;
 @Service
 public class SeekerService {
 
+    public static final int MAX_STATUS_JOB_IDS = 200;
+
     private final SeekerRepository repo;
+    private final SeekerJobMembershipCache membershipCache;
+    private final ApplicantRanker applicantRanker;
 
-    public SeekerService(SeekerRepository repo) {
+    public SeekerService(SeekerRepository repo, SeekerJobMembershipCache membershipCache,
+                         ApplicantRanker applicantRanker) {
         this.repo = repo;
+        this.membershipCache = membershipCache;
+        this.applicantRanker = applicantRanker;
     }
 
     public List<Seeker> getAll() {
@@ -60,7 +71,27 @@ public class SeekerService {
         return null;
     }
 
+    // Saved/applied flags for a page of jobs, answered from the seeker's cached memberships
+    public Map<Long, Map<String, Boolean>> getJobStatuses(Long seekerId, List<Long> jobIds) {
+        if (jobIds == null || jobIds.isEmpty()) {
+            return Map.of();
+        }
+        if (jobIds.size() > MAX_STATUS_JOB_IDS) {
+            throw new IllegalArgumentException("At most " + MAX_STATUS_JOB_IDS + " job ids per request");
+        }
+        List<Long> ids = new ArrayList<>(new LinkedHashSet<>(jobIds));
+        ids.remove(null);
+        boolean[][] flags = membershipCache.flags(seekerId, ids);
+
+        Map<Long, Map<String, Boolean>> statuses = new LinkedHashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            statuses.put(ids.get(i), Map.of("saved", flags[i][0], "applied", flags[i][1]));
+        }
+        return statuses;
+    }
+
     public void delete(Long id) {
         repo.deleteById(id);
+        applicantRanker.forgetSeeker(id);
     }
 }
@@ -0,0 +1,508 @@
+package com.itvedant.Job_Web_Application.service;
+
+import com.itvedant.Job_Web_Application.entities.Job;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Prefix autocomplete over job titles, companies and locations plus recruiter company names.
+ *
+ * Distinct values are counted and stored once; every word start of a value is a key in a trie
+ * kept in parallel primitive arrays (first-child / next-sibling links, no per-node maps). Each
+ * node caches its top suggestions by frequency, patched in place on updates and recomputed
+ * lazily only when a cached entry drops out. Values whose count falls to zero give their entry
+ * slot and any trie nodes left without terminals or children back to free lists for reuse.
+ */
+@Component
+public class SuggestionIndex {
+
+    public static final String TITLE = "title";
+    public static final String COMPANY = "company";
+    public static final String LOCATION = "location";
+
+    private static final String[] TYPES = {TITLE, COMPANY, LOCATION};
+    private static final int TYPE_TITLE = 0;
+    private static final int TYPE_COMPANY = 1;
+    private static final int TYPE_LOCATION = 2;
+
+    private static final int TOP_K = 10;
+    private static final int MAX_KEY_LENGTH = 64;
+
+    private static final int NONE = -1;
+    private static final int[] EMPTY = new int[0];
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Trie nodes; node 0 is the root
+    private char[] nodeChar = new char[4096];
+    private int[] firstChild = new int[4096];
+    private int[] nextSibling = new int[4096];
+    private int[][] terminals = new int[4096][];
+    // Cached best entries under each node, ordered by count; null means "recompute on read"
+    private int[][] topEntries = new int[4096][];
+    private int nodeCount;
+    private int[] freeNodes = new int[64];
+    private int freeNodeCount;
+
+    // Distinct values
+    private final Map<String, Integer> entryByKey = new HashMap<>();
+    private String[] entryText = new String[1024];
+    private byte[] entryType = new byte[1024];
+    private int[] entryCount = new int[1024];
+    private int entryTotal;
+    private int[] freeEntries = new int[64];
+    private int freeEntryCount;
+
+    // What each source currently contributes, so updates can take the old values back out
+    private final Map<Long, int[]> entriesByJob = new HashMap<>();
+    private final Map<Long, Integer> entryByRecruiter = new HashMap<>();
+
+    public SuggestionIndex() {
+        nodeCount = 1;
+        firstChild[0] = NONE;
+        nextSibling[0] = NONE;
+        topEntries[0] = EMPTY;
+    }
+
+    /**
+     * Add or replace the title, company and location of a job
+     */
+    public void indexJob(Job job) {
+        if (job == null || job.getId() == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            removeJobLocked(job.getId());
+            int[] entries = {
+                    increment(TYPE_TITLE, job.getTitle()),
+                    increment(TYPE_COMPANY, job.getCompany()),
+                    increment(TYPE_LOCATION, job.getLocation())
+            };
+            entriesByJob.put(job.getId(), entries);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void removeJob(Long jobId) {
+        if (jobId == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            removeJobLocked(jobId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Add or replace the company name a recruiter profile contributes
+     */
+    public void indexRecruiterCompany(Long recruiterId, String companyName) {
+        if (recruiterId == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            Integer previous = entryByRecruiter.remove(recruiterId);
+            if (previous != null) {
+                decrement(previous);
+            }
+            int entry = increment(TYPE_COMPANY, companyName);
+            if (entry != NONE) {
+                entryByRecruiter.put(recruiterId, entry);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void removeRecruiterCompany(Long recruiterId) {
+        indexRecruiterCompany(recruiterId, null);
+    }
+
+    /**
+     * Best suggestions for a typed prefix, most frequent first
+     */
+    public List<Map<String, Object>> suggest(String prefix, int limit) {
+        String key = normalize(prefix);
+        List<Map<String, Object>> results = new ArrayList<>();
+        if (key == null || limit <= 0) {
+            return results;
+        }
+
+        lock.readLock().lock();
+        int[] top;
+        try {
+            int node = find(key);
+            if (node == NONE) {
+                return results;
+            }
+            top = topEntries[node];
+            if (top == null) {
+                // Cache was invalidated by a decrement; rebuild it under the write lock. A removal
+                // may have pruned and reused the node in between, so look the prefix up again
+                lock.readLock().unlock();
+                lock.writeLock().lock();
+                try {
+                    node = find(key);
+                    if (node == NONE) {
+                        return results;
+                    }
+                    top = topEntries[node];
+                    if (top == null) {
+                        top = collectTop(node);
+                        topEntries[node] = top;
+                    }
+                } finally {
+                    // Downgrade: take the read lock back before releasing the write lock
+                    lock.readLock().lock();
+                    lock.writeLock().unlock();
+                }
+            }
+            for (int i = 0; i < top.length && results.size() < limit; i++) {
+                int entry = top[i];
+                Map<String, Object> suggestion = new LinkedHashMap<>();
+                suggestion.put("text", entryText[entry]);
+                suggestion.put("type", TYPES[entryType[entry]]);
+                suggestion.put("count", entryCount[entry]);
+                results.add(suggestion);
+            }
+            return results;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void removeJobLocked(Long jobId) {
+        int[] previous = entriesByJob.remove(jobId);
+        if (previous != null) {
+            for (int entry : previous) {
+                if (entry != NONE) {
+                    decrement(entry);
+                }
+            }
+        }
+    }
+
+    private int increment(int type, String value) {
+        String key = normalize(value);
+        if (key == null) {
+            return NONE;
+        }
+        String mapKey = type + ":" + key;
+        Integer existing = entryByKey.get(mapKey);
+        int entry;
+        if (existing == null) {
+            entry = newEntry(type, value.trim());
+            entryByKey.put(mapKey, entry);
+            for (int start : wordStarts(key)) {
+                int node = insert(key, start);
+                terminals[node] = append(terminals[node], entry);
+            }
+        } else {
+            entry = existing;
+        }
+        entryCount[entry]++;
+        for (int start : wordStarts(key)) {
+            promote(key, start, entry);
+        }
+        return entry;
+    }
+
+    private void decrement(int entry) {
+        String key = normalize(entryText[entry]);
+        entryCount[entry]--;
+        boolean gone = entryCount[entry] == 0;
+        for (int start : wordStarts(key)) {
+            int[] path = new int[key.length() - start + 1];
+            int depth = 1;
+            int node = 0;
+            for (int i = start; i < key.length() && node != NONE; i++) {
+                node = child(node, key.charAt(i));
+                if (node != NONE) {
+                    demote(node, entry, gone);
+                    path[depth++] = node;
+                }
+            }
+            if (gone && node != NONE) {
+                terminals[node] = without(terminals[node], entry);
+                prune(path, depth);
+            }
+        }
+        if (gone) {
+            entryByKey.remove(entryType[entry] + ":" + key);
+            entryText[entry] = null;
+            freeEntries = push(freeEntries, freeEntryCount++, entry);
+        }
+    }
+
+    // Unlink the nodes at the end of a path that no longer lead to any value, deepest first
+    private void prune(int[] path, int depth) {
+        for (int d = depth - 1; d > 0; d--) {
+            int node = path[d];
+            if (terminals[node] != null || firstChild[node] != NONE) {
+                return;
+            }
+            int parent = path[d - 1];
+            if (firstChild[parent] == node) {
+                firstChild[parent] = nextSibling[node];
+            } else {
+                int previous = firstChild[parent];
+                while (nextSibling[previous] != node) {
+                    previous = nextSibling[previous];
+                }
+                nextSibling[previous] = nextSibling[node];
+            }
+            topEntries[node] = null;
+            freeNodes = push(freeNodes, freeNodeCount++, node);
+        }
+    }
+
+    // Raise an entry in every cached top list along the key path
+    private void promote(String key, int start, int entry) {
+        int node = 0;
+        for (int i = start; i < key.length(); i++) {
+            node = child(node, key.charAt(i));
+            promoteAt(node, entry);
+        }
+    }
+
+    private void promoteAt(int node, int entry) {
+        int[] top = topEntries[node];
+        if (top == null) {
+            return;
+        }
+        int index = indexOf(top, entry);
+        if (index < 0) {
+            if (top.length < TOP_K) {
+                top = append(top, entry);
+            } else if (entryCount[entry] > entryCount[top[top.length - 1]]) {
+                top = top.clone();
+                top[top.length - 1] = entry;
+            } else {
+                return;
+            }
+        } else {
+            top = top.clone();
+        }
+        sortByCount(top);
+        topEntries[node] = top;
+    }
+
+    private void demote(int node, int entry, boolean gone) {
+        int[] top = topEntries[node];
+        if (top == null || indexOf(top, entry) < 0) {
+            return;
+        }
+        if (top.length < TOP_K) {
+            // A short list holds every entry under the node, so it can be patched in place
+            top = gone ? without(top, entry) : top.clone();
+            if (top == null) {
+                top = EMPTY;
+            }
+            sortByCount(top);
+            topEntries[node] = top;
+        } else {
+            // Something outside the list may now outrank this entry
+            topEntries[node] = null;
+        }
+    }
+
+    private int[] collectTop(int node) {
+        TopKHeap heap = new TopKHeap(TOP_K);
+        Map<Integer, Boolean> seen = new HashMap<>();
+        int[] stack = new int[64];
+        int depth = 0;
+        stack[depth++] = node;
+        while (depth > 0) {
+            int current = stack[--depth];
+            if (terminals[current] != null) {
+                for (int entry : terminals[current]) {
+                    if (seen.put(entry, Boolean.TRUE) == null) {
+                        // Negate the id so ties favour the lower slot, as sortByCount does
+                        heap.offer(-entry, entryCount[entry]);
+                    }
+                }
+            }
+            for (int c = firstChild[current]; c != NONE; c = nextSibling[c]) {
+                if (depth == stack.length) {
+                    stack = Arrays.copyOf(stack, depth * 2);
+                }
+                stack[depth++] = c;
+            }
+        }
+        long[] keys = heap.drainDescending();
+        int[] top = new int[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            top[i] = (int) -keys[i];
+        }
+        return top;
+    }
+
+    private int find(String key) {
+        int node = 0;
+        for (int i = 0; i < key.length() && node != NONE; i++) {
+            node = child(node, key.charAt(i));
+        }
+        return node;
+    }
+
+    private int child(int node, char c) {
+        for (int n = firstChild[node]; n != NONE; n = nextSibling[n]) {
+            if (nodeChar[n] == c) {
+                return n;
+            }
+        }
+        return NONE;
+    }
+
+    private int insert(String key, int start) {
+        int node = 0;
+        for (int i = start; i < key.length(); i++) {
+            char c = key.charAt(i);
+            int next = child(node, c);
+            if (next == NONE) {
+                next = newNode(c);
+                nextSibling[next] = firstChild[node];
+                firstChild[node] = next;
+            }
+            node = next;
+        }
+        return node;
+    }
+
+    private int newNode(char c) {
+        int node;
+        if (freeNodeCount > 0) {
+            node = freeNodes[--freeNodeCount];
+        } else {
+            node = allocateNode();
+        }
+        nodeChar[node] = c;
+        firstChild[node] = NONE;
+        nextSibling[node] = NONE;
+        terminals[node] = null;
+        topEntries[node] = EMPTY;
+        return node;
+    }
+
+    private int allocateNode() {
+        if (nodeCount == nodeChar.length) {
+            int capacity = nodeCount * 2;
+            nodeChar = Arrays.copyOf(nodeChar, capacity);
+            firstChild = Arrays.copyOf(firstChild, capacity);
+            nextSibling = Arrays.copyOf(nextSibling, capacity);
+            terminals = Arrays.copyOf(terminals, capacity);
+            topEntries = Arrays.copyOf(topEntries, capacity);
+        }
+        return nodeCount++;
+    }
+
+    private int newEntry(int type, String text) {
+        int entry;
+        if (freeEntryCount > 0) {
+            entry = freeEntries[--freeEntryCount];
+        } else {
+            if (entryTotal == entryText.length) {
+                int capacity = entryTotal * 2;
+                entryText = Arrays.copyOf(entryText, capacity);
+                entryType = Arrays.copyOf(entryType, capacity);
+                entryCount = Arrays.copyOf(entryCount, capacity);
+            }
+            entry = entryTotal++;
+        }
+        entryText[entry] = text.intern();
+        entryType[entry] = (byte) type;
+        return entry;
+    }
+
+    private void sortByCount(int[] top) {
+        // Lists are at most TOP_K long, so insertion sort is enough
+        for (int i = 1; i < top.length; i++) {
+            int entry = top[i];
+            int j = i - 1;
+            while (j >= 0 && (entryCount[top[j]] < entryCount[entry]
+                    || (entryCount[top[j]] == entryCount[entry] && top[j] > entry))) {
+                top[j + 1] = top[j];
+                j--;
+            }
+            top[j + 1] = entry;
+        }
+    }
+
+    private static int[] wordStarts(String key) {
+        int[] starts = new int[4];
+        int count = 0;
+        for (int i = 0; i < key.length(); i++) {
+            if (i == 0 || key.charAt(i - 1) == ' ') {
+                if (count == starts.length) {
+                    starts = Arrays.copyOf(starts, count * 2);
+                }
+                starts[count++] = i;
+            }
+        }
+        return Arrays.copyOf(starts, count);
+    }
+
+    private static String normalize(String value) {
+        if (value == null) {
+            return null;
+        }
+        String key = value.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+        if (key.isEmpty()) {
+            return null;
+        }
+        return key.length() > MAX_KEY_LENGTH ? key.substring(0, MAX_KEY_LENGTH) : key;
+    }
+
+    private static int indexOf(int[] values, int value) {
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int[] append(int[] values, int value) {
+        if (values == null) {
+            return new int[]{value};
+        }
+        int[] result = Arrays.copyOf(values, values.length + 1);
+        result[values.length] = value;
+        return result;
+    }
+
+    private static int[] push(int[] stack, int size, int value) {
+        if (size == stack.length) {
+            stack = Arrays.copyOf(stack, size * 2);
+        }
+        stack[size] = value;
+        return stack;
+    }
+
+    private static int[] without(int[] values, int value) {
+        int index = values == null ? -1 : indexOf(values, value);
+        if (index < 0) {
+            return values;
+        }
+        if (values.length == 1) {
+            return null;
+        }
+        int[] result = new int[values.length - 1];
+        System.arraycopy(values, 0, result, 0, index);
+        System.arraycopy(values, index + 1, result, index, values.length - index - 1);
+        return result;
+    }
+}
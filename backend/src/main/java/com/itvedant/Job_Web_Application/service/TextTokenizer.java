@@ -0,0 +1,47 @@
+package com.itvedant.Job_Web_Application.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Splits free text into lowercase search terms.
+ * Letters and digits form terms; '+' and '#' are kept so "c++" and "c#" survive.
+ */
+public final class TextTokenizer {
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "and", "are", "as", "at", "be", "by", "for", "from", "in", "is", "it",
+            "of", "on", "or", "our", "the", "to", "we", "will", "with", "you", "your");
+
+    private TextTokenizer() {}
+
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+
+        StringBuilder current = new StringBuilder();
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isLetterOrDigit(c) || ((c == '+' || c == '#') && current.length() > 0)) {
+                current.append(Character.toLowerCase(c));
+            } else if (current.length() > 0) {
+                addToken(tokens, current);
+            }
+        }
+        if (current.length() > 0) {
+            addToken(tokens, current);
+        }
+        return tokens;
+    }
+
+    private static void addToken(List<String> tokens, StringBuilder current) {
+        String token = current.toString();
+        current.setLength(0);
+        if (!STOP_WORDS.contains(token)) {
+            tokens.add(token);
+        }
+    }
+}
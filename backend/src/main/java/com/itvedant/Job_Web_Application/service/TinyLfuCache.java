@@ -0,0 +1,283 @@
+package com.itvedant.Job_Web_Application.service;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.ToLongFunction;
+
+/**
+ * Weight-bounded cache with W-TinyLFU admission. New entries land in a small LRU window; when
+ * they age out of it they only displace the main region's LRU victim if a count-min sketch says
+ * they are requested more often, so one-off reads cannot flush popular entries.
+ *
+ * Reads never take the lock: values are served from a concurrent map and the read is recorded in
+ * one of several small lossy buffers, picked by thread. Whoever finds a buffer full, or the next
+ * write, drains the buffers under the lock into the sketch and the LRU order. Reads that find
+ * their buffer full while another thread holds the lock are dropped, which only costs accuracy.
+ */
+public final class TinyLfuCache<K, V> {
+
+    private static final int WINDOW_PERCENT = 1;
+
+    private static final int READ_BUFFER_SIZE = 32;
+    private static final int READ_BUFFER_STRIPES =
+            Integer.highestOneBit(Math.min(64, Runtime.getRuntime().availableProcessors()) * 2 - 1);
+
+    private final long maxWeight;
+    private final long windowMaxWeight;
+    private final ToLongFunction<V> weigher;
+    private final FrequencySketch sketch;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    // Every cached value, read without locking; only changed under the lock, alongside the regions
+    private final Map<K, V> values = new ConcurrentHashMap<>();
+
+    // Access-ordered: iteration starts at the least recently used entry
+    private final LinkedHashMap<K, Weighted<V>> window = new LinkedHashMap<>(16, 0.75f, true);
+    private final LinkedHashMap<K, Weighted<V>> main = new LinkedHashMap<>(256, 0.75f, true);
+    private long windowWeight;
+    private long mainWeight;
+
+    private final ReadBuffer[] readBuffers = new ReadBuffer[READ_BUFFER_STRIPES];
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private long evictions;
+
+    /**
+     * @param expectedEntries rough number of entries the budget holds, used to size the sketch
+     */
+    public TinyLfuCache(long maxWeight, int expectedEntries, ToLongFunction<V> weigher) {
+        if (maxWeight <= 0) {
+            throw new IllegalArgumentException("Max weight must be positive");
+        }
+        this.maxWeight = maxWeight;
+        this.windowMaxWeight = Math.max(1, maxWeight * WINDOW_PERCENT / 100);
+        this.weigher = weigher;
+        this.sketch = new FrequencySketch(Math.max(16, expectedEntries));
+        for (int i = 0; i < readBuffers.length; i++) {
+            readBuffers[i] = new ReadBuffer();
+        }
+    }
+
+    /**
+     * Cached value or null; every call counts towards the key's popularity
+     */
+    public V get(K key) {
+        V value = values.get(key);
+        if (value == null) {
+            misses.increment();
+        } else {
+            hits.increment();
+        }
+        ReadBuffer buffer = readBuffers[(int) Thread.currentThread().threadId() & (READ_BUFFER_STRIPES - 1)];
+        if (!buffer.offer(key) && lock.tryLock()) {
+            try {
+                drainReads();
+            } finally {
+                lock.unlock();
+            }
+        }
+        return value;
+    }
+
+    public void put(K key, V value) {
+        long weight = weigher.applyAsLong(value);
+        lock.lock();
+        try {
+            drainReads();
+            removeLocked(key);
+            if (weight > maxWeight - windowMaxWeight) {
+                return;
+            }
+            window.put(key, new Weighted<>(value, weight));
+            values.put(key, value);
+            windowWeight += weight;
+            drainWindow();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void invalidate(K key) {
+        lock.lock();
+        try {
+            removeLocked(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public Map<String, Long> stats() {
+        lock.lock();
+        try {
+            Map<String, Long> stats = new LinkedHashMap<>();
+            stats.put("entries", (long) (window.size() + main.size()));
+            stats.put("weight", windowWeight + mainWeight);
+            stats.put("maxWeight", maxWeight);
+            stats.put("hits", hits.sum());
+            stats.put("misses", misses.sum());
+            stats.put("evictions", evictions);
+            return stats;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Replay buffered reads into the sketch and the LRU order; callers hold the lock
+    private void drainReads() {
+        for (ReadBuffer buffer : readBuffers) {
+            buffer.drainTo(this::recordRead);
+        }
+    }
+
+    private void recordRead(Object read) {
+        @SuppressWarnings("unchecked")
+        K key = (K) read;
+        sketch.increment(key.hashCode());
+        // get on an access-ordered map moves the entry to the most recently used end
+        if (window.get(key) == null) {
+            main.get(key);
+        }
+    }
+
+    // Move window overflow into main, letting the sketch decide who stays when main is full
+    private void drainWindow() {
+        long mainMaxWeight = maxWeight - windowMaxWeight;
+        while (windowWeight > windowMaxWeight) {
+            Iterator<Map.Entry<K, Weighted<V>>> oldest = window.entrySet().iterator();
+            Map.Entry<K, Weighted<V>> candidate = oldest.next();
+            oldest.remove();
+            windowWeight -= candidate.getValue().weight();
+
+            int candidateFrequency = sketch.frequency(candidate.getKey().hashCode());
+            boolean admitted = true;
+            Iterator<Map.Entry<K, Weighted<V>>> victims = main.entrySet().iterator();
+            while (mainWeight + candidate.getValue().weight() > mainMaxWeight) {
+                Map.Entry<K, Weighted<V>> victim = victims.next();
+                if (candidateFrequency <= sketch.frequency(victim.getKey().hashCode())) {
+                    admitted = false;
+                    break;
+                }
+                victims.remove();
+                values.remove(victim.getKey());
+                mainWeight -= victim.getValue().weight();
+                evictions++;
+            }
+            if (admitted) {
+                main.put(candidate.getKey(), candidate.getValue());
+                mainWeight += candidate.getValue().weight();
+            } else {
+                values.remove(candidate.getKey());
+                evictions++;
+            }
+        }
+    }
+
+    private void removeLocked(K key) {
+        values.remove(key);
+        Weighted<V> removed = window.remove(key);
+        if (removed != null) {
+            windowWeight -= removed.weight();
+        }
+        removed = main.remove(key);
+        if (removed != null) {
+            mainWeight -= removed.weight();
+        }
+    }
+
+    private record Weighted<V>(V value, long weight) {}
+
+    /**
+     * Fixed-size buffer of recent reads. Offers past the end are dropped rather than waiting;
+     * the drain empties the slots it saw and starts the buffer over.
+     */
+    private static final class ReadBuffer {
+        private final AtomicReferenceArray<Object> slots = new AtomicReferenceArray<>(READ_BUFFER_SIZE);
+        private final AtomicInteger written = new AtomicInteger();
+
+        /**
+         * False once the buffer is full, which asks the caller to drain
+         */
+        boolean offer(Object key) {
+            int index = written.get();
+            if (index >= READ_BUFFER_SIZE || !written.compareAndSet(index, index + 1)) {
+                return index < READ_BUFFER_SIZE;
+            }
+            slots.lazySet(index, key);
+            return index + 1 < READ_BUFFER_SIZE;
+        }
+
+        void drainTo(Consumer<Object> consumer) {
+            int count = Math.min(written.get(), READ_BUFFER_SIZE);
+            for (int i = 0; i < count; i++) {
+                Object key = slots.getAndSet(i, null);
+                if (key != null) {
+                    consumer.accept(key);
+                }
+            }
+            written.set(0);
+        }
+    }
+
+    /**
+     * Count-min sketch of 4 rows with counters capped at 15. All counters are halved once the
+     * number of increments reaches ten times the width, so old popularity fades.
+     */
+    private static final class FrequencySketch {
+        private static final int ROWS = 4;
+        private static final int MAX_COUNT = 15;
+        private static final int[] SEEDS = {0x9E3779B9, 0x85EBCA6B, 0xC2B2AE35, 0x27D4EB2F};
+
+        private final byte[][] counters;
+        private final int mask;
+        private final int sampleSize;
+        private int additions;
+
+        FrequencySketch(int expectedEntries) {
+            int width = Integer.highestOneBit(Math.min(expectedEntries, 1 << 24) - 1) << 1;
+            counters = new byte[ROWS][width];
+            mask = width - 1;
+            sampleSize = 10 * width;
+        }
+
+        void increment(int hash) {
+            boolean added = false;
+            for (int row = 0; row < ROWS; row++) {
+                int index = index(hash, row);
+                if (counters[row][index] < MAX_COUNT) {
+                    counters[row][index]++;
+                    added = true;
+                }
+            }
+            if (added && ++additions >= sampleSize) {
+                for (byte[] row : counters) {
+                    for (int i = 0; i < row.length; i++) {
+                        row[i] >>= 1;
+                    }
+                }
+                additions /= 2;
+            }
+        }
+
+        int frequency(int hash) {
+            int min = MAX_COUNT;
+            for (int row = 0; row < ROWS; row++) {
+                min = Math.min(min, counters[row][index(hash, row)]);
+            }
+            return min;
+        }
+
+        private int index(int hash, int row) {
+            int h = (hash ^ (hash >>> 16)) * SEEDS[row];
+            return (h ^ (h >>> 15)) & mask;
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.itvedant.Job_Web_Application.service;
+
+/**
+ * Bounded min-heap over primitive (key, score) pairs that keeps the k highest scores.
+ * Ties are broken in favour of the larger key. Not thread-safe.
+ */
+public final class TopKHeap {
+
+    private final int capacity;
+    private final long[] keys;
+    private final double[] scores;
+    private int size;
+
+    public TopKHeap(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        this.capacity = capacity;
+        this.keys = new long[capacity];
+        this.scores = new double[capacity];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Lowest score currently kept, or negative infinity while the heap is not full
+     */
+    public double threshold() {
+        return size < capacity ? Double.NEGATIVE_INFINITY : scores[0];
+    }
+
+    public void offer(long key, double score) {
+        if (size < capacity) {
+            keys[size] = key;
+            scores[size] = score;
+            siftUp(size++);
+        } else if (less(keys[0], scores[0], key, score)) {
+            keys[0] = key;
+            scores[0] = score;
+            siftDown(0);
+        }
+    }
+
+    /**
+     * Drain the heap into keys ordered best first. The heap is empty afterwards.
+     */
+    public long[] drainDescending() {
+        return drainEntriesDescending().keys();
+    }
+
+    /**
+     * Drain the heap into (keys, scores) ordered best first. The heap is empty afterwards.
+     */
+    public Entries drainEntriesDescending() {
+        long[] outKeys = new long[size];
+        double[] outScores = new double[size];
+        for (int i = size - 1; i >= 0; i--) {
+            outKeys[i] = keys[0];
+            outScores[i] = scores[0];
+            size--;
+            keys[0] = keys[size];
+            scores[0] = scores[size];
+            siftDown(0);
+        }
+        return new Entries(outKeys, outScores);
+    }
+
+    private static boolean less(long keyA, double scoreA, long keyB, double scoreB) {
+        return scoreA < scoreB || (scoreA == scoreB && keyA < keyB);
+    }
+
+    private void siftUp(int i) {
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (!less(keys[i], scores[i], keys[parent], scores[parent])) {
+                return;
+            }
+            swap(i, parent);
+            i = parent;
+        }
+    }
+
+    private void siftDown(int i) {
+        while (true) {
+            int left = 2 * i + 1;
+            if (left >= size) {
+                return;
+            }
+            int smallest = left;
+            int right = left + 1;
+            if (right < size && less(keys[right], scores[right], keys[left], scores[left])) {
+                smallest = right;
+            }
+            if (!less(keys[smallest], scores[smallest], keys[i], scores[i])) {
+                return;
+            }
+            swap(i, smallest);
+            i = smallest;
+        }
+    }
+
+    private void swap(int a, int b) {
+        long k = keys[a];
+        keys[a] = keys[b];
+        keys[b] = k;
+        double s = scores[a];
+        scores[a] = scores[b];
+        scores[b] = s;
+    }
+
+    public record Entries(long[] keys, double[] scores) {}
+}
@@ -0,0 +1,251 @@
+package com.itvedant.Job_Web_Application.service;
+
+import com.itvedant.Job_Web_Application.entities.Job;
+import com.itvedant.Job_Web_Application.entities.TrendingJob;
+import com.itvedant.Job_Web_Application.repository.JobRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Jobs ranked by recent engagement and freshness. Each save and application adds to the job's
+ * score, which halves every ENGAGEMENT_HALF_LIFE_HOURS; posting adds a freshness bonus that
+ * halves every FRESHNESS_HALF_LIFE_DAYS. Scores are kept per job and updated on each event; a
+ * periodic refresh picks the top MAX_TRENDING with a bounded heap and publishes them with their
+ * jobs, so a trending read is a sublist of that snapshot and never touches the database.
+ */
+@Component
+public class TrendingJobs {
+
+    public static final int DEFAULT_TRENDING = 20;
+    public static final int MAX_TRENDING = 100;
+
+    private static final double SAVE_WEIGHT = 1.0;
+    private static final double APPLY_WEIGHT = 3.0;
+    private static final double FRESHNESS_WEIGHT = 5.0;
+    private static final double ENGAGEMENT_HALF_LIFE_HOURS = 24;
+    private static final double FRESHNESS_HALF_LIFE_DAYS = 3;
+
+    // Older events have decayed below 1% of their weight, so startup does not replay them
+    private static final int HISTORY_DAYS = 7;
+
+    private static final double ENGAGEMENT_DECAY_PER_MS = Math.log(2) / (ENGAGEMENT_HALF_LIFE_HOURS * 3_600_000);
+    private static final double FRESHNESS_DECAY_PER_DAY = Math.log(2) / FRESHNESS_HALF_LIFE_DAYS;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private JobCache jobCache;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<Long, Score> scores = new HashMap<>();
+
+    private volatile List<TrendingJob> snapshot = List.of();
+
+    public void recordSave(Long jobId) {
+        AfterCommit.run(() -> add(jobId, SAVE_WEIGHT, System.currentTimeMillis()));
+    }
+
+    public void recordApply(Long jobId) {
+        AfterCommit.run(() -> add(jobId, APPLY_WEIGHT, System.currentTimeMillis()));
+    }
+
+    /**
+     * Track a created or updated job's posted date, refreshing it in the published snapshot
+     */
+    public void indexJob(Job job) {
+        if (job == null || job.getId() == null) {
+            return;
+        }
+        lock.lock();
+        try {
+            scores.computeIfAbsent(job.getId(), id -> new Score()).postedDate = job.getPostedDate();
+            List<TrendingJob> current = snapshot;
+            for (int i = 0; i < current.size(); i++) {
+                if (job.getId().equals(current.get(i).getJob().getId())) {
+                    List<TrendingJob> replaced = new ArrayList<>(current);
+                    replaced.set(i, new TrendingJob(job, current.get(i).getScore()));
+                    snapshot = List.copyOf(replaced);
+                    return;
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void removeJob(Long jobId) {
+        lock.lock();
+        try {
+            scores.remove(jobId);
+            snapshot = snapshot.stream().filter(trending -> !jobId.equals(trending.getJob().getId())).toList();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * The best scoring jobs as of the last refresh, best first
+     */
+    public List<TrendingJob> trending(int limit) {
+        List<TrendingJob> current = snapshot;
+        return current.subList(0, Math.max(0, Math.min(limit, current.size())));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        try {
+            long start = System.currentTimeMillis();
+            jdbcTemplate.query("SELECT id, posted_date FROM jobs", rs -> {
+                Date postedDate = rs.getDate("posted_date");
+                lock.lock();
+                try {
+                    scores.computeIfAbsent(rs.getLong("id"), id -> new Score()).postedDate =
+                            postedDate == null ? null : postedDate.toLocalDate();
+                } finally {
+                    lock.unlock();
+                }
+            });
+            Timestamp since = Timestamp.valueOf(LocalDateTime.now().minusDays(HISTORY_DAYS));
+            int saves = replay("SELECT job_id, saved_date AS happened FROM saved_jobs WHERE saved_date >= ?",
+                    SAVE_WEIGHT, since);
+            int applications = replay("SELECT job_id, applied_date AS happened FROM applications WHERE applied_date >= ?",
+                    APPLY_WEIGHT, since);
+            refresh();
+            System.out.println("Trending jobs loaded " + saves + " saves and " + applications + " applications in "
+                    + (System.currentTimeMillis() - start) + " ms");
+        } catch (Exception e) {
+            System.err.println("Error loading trending jobs: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Recompute the top jobs and publish them with their details
+     */
+    @Scheduled(initialDelayString = "${app.trending.refresh-ms:60000}",
+            fixedDelayString = "${app.trending.refresh-ms:60000}")
+    public void refresh() {
+        try {
+            long now = System.currentTimeMillis();
+            LocalDate today = LocalDate.now();
+            TopKHeap heap = new TopKHeap(MAX_TRENDING);
+            lock.lock();
+            try {
+                for (Map.Entry<Long, Score> entry : scores.entrySet()) {
+                    double score = entry.getValue().at(now, today);
+                    if (score > 0 && score >= heap.threshold()) {
+                        heap.offer(entry.getKey(), score);
+                    }
+                }
+            } finally {
+                lock.unlock();
+            }
+
+            TopKHeap.Entries best = heap.drainEntriesDescending();
+            Map<Long, Job> jobs = loadJobs(best.keys());
+            List<TrendingJob> ranked = new ArrayList<>(best.keys().length);
+            lock.lock();
+            try {
+                // Jobs deleted while their details were loading are left out
+                for (int i = 0; i < best.keys().length; i++) {
+                    Job job = jobs.get(best.keys()[i]);
+                    if (job != null && scores.containsKey(job.getId())) {
+                        ranked.add(new TrendingJob(job, best.scores()[i]));
+                    }
+                }
+                snapshot = List.copyOf(ranked);
+            } finally {
+                lock.unlock();
+            }
+        } catch (Exception e) {
+            System.err.println("Error refreshing trending jobs: " + e.getMessage());
+        }
+    }
+
+    private int replay(String sql, double weight, Timestamp since) {
+        int[] count = {0};
+        jdbcTemplate.query(sql, rs -> {
+            Timestamp happened = rs.getTimestamp("happened");
+            add(rs.getLong("job_id"), weight, happened.getTime());
+            count[0]++;
+        }, since);
+        return count[0];
+    }
+
+    private void add(Long jobId, double weight, long atMillis) {
+        lock.lock();
+        try {
+            Score score = scores.get(jobId);
+            // Unknown ids are saves of jobs deleted meanwhile; they would only clutter the ranking
+            if (score != null) {
+                score.add(weight, atMillis);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Served from the job cache where possible; the rest in one batch
+    private Map<Long, Job> loadJobs(long[] jobIds) {
+        Map<Long, Job> jobs = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+        for (long id : jobIds) {
+            Job job = jobCache.getJob(id, () -> null);
+            if (job != null) {
+                jobs.put(id, job);
+            } else {
+                missing.add(id);
+            }
+        }
+        if (!missing.isEmpty()) {
+            for (Job job : jobRepository.findAllById(missing)) {
+                jobs.put(job.getId(), job);
+            }
+        }
+        return jobs;
+    }
+
+    /**
+     * Engagement decayed to updatedAt, plus the posted date for the freshness bonus
+     */
+    private static final class Score {
+        double engagement;
+        long updatedAt;
+        LocalDate postedDate;
+
+        void add(double weight, long atMillis) {
+            if (atMillis >= updatedAt) {
+                engagement = engagement * Math.exp(-ENGAGEMENT_DECAY_PER_MS * (atMillis - updatedAt)) + weight;
+                updatedAt = atMillis;
+            } else {
+                engagement += weight * Math.exp(-ENGAGEMENT_DECAY_PER_MS * (updatedAt - atMillis));
+            }
+        }
+
+        double at(long now, LocalDate today) {
+            double score = engagement * Math.exp(-ENGAGEMENT_DECAY_PER_MS * Math.max(0, now - updatedAt));
+            if (postedDate != null) {
+                long age = Math.max(0, today.toEpochDay() - postedDate.toEpochDay());
+                score += FRESHNESS_WEIGHT * Math.exp(-FRESHNESS_DECAY_PER_DAY * age);
+            }
+            return score;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.itvedant.Job_Web_Application.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ApplicationStatusTests {
+
+	@Test
+	void withdrawnIsFinal() {
+		assertTrue(ApplicationStatus.WITHDRAWN.allowedNext().isEmpty());
+		for (ApplicationStatus target : ApplicationStatus.values()) {
+			assertFalse(ApplicationStatus.WITHDRAWN.canMoveTo(target), "WITHDRAWN -> " + target);
+		}
+	}
+
+	@Test
+	void rejectedCanBeReopenedButNotPutBackToPending() {
+		assertFalse(ApplicationStatus.REJECTED.canMoveTo(ApplicationStatus.PENDING));
+		assertFalse(ApplicationStatus.REJECTED.canMoveTo(ApplicationStatus.WITHDRAWN));
+		assertTrue(ApplicationStatus.REJECTED.canMoveTo(ApplicationStatus.REVIEWING));
+		assertTrue(ApplicationStatus.REJECTED.canMoveTo(ApplicationStatus.ACCEPTED));
+	}
+
+	@Test
+	void noStatusMovesToItself() {
+		for (ApplicationStatus status : ApplicationStatus.values()) {
+			assertFalse(status.canMoveTo(status), status + " -> " + status);
+		}
+	}
+
+	@Test
+	void allowedFromInvertsAllowedNext() {
+		assertEquals(Set.of(ApplicationStatus.REVIEWING), ApplicationStatus.allowedFrom(ApplicationStatus.PENDING));
+		assertEquals(EnumSet.of(ApplicationStatus.PENDING, ApplicationStatus.REVIEWING, ApplicationStatus.ACCEPTED),
+				ApplicationStatus.allowedFrom(ApplicationStatus.WITHDRAWN));
+		for (ApplicationStatus target : ApplicationStatus.values()) {
+			for (ApplicationStatus source : ApplicationStatus.allowedFrom(target)) {
+				assertTrue(source.canMoveTo(target), source + " -> " + target);
+			}
+		}
+	}
+}
@@ -0,0 +1,86 @@
+package com.itvedant.Job_Web_Application.service;
+
+import com.itvedant.Job_Web_Application.entities.Job;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class JobFacetIndexTests {
+
+	private JobFacetIndex index;
+
+	@BeforeEach
+	void setUp() {
+		LocalDate today = LocalDate.now();
+		index = new JobFacetIndex();
+		index.index(job(1L, "Pune", "Full-time", "Junior", today));
+		index.index(job(2L, "Pune", "Part-time", "Senior", today.minusDays(3)));
+		index.index(job(3L, "Mumbai", "Full-time", "Senior", today.minusDays(10)));
+		index.index(job(4L, "Delhi", "Full-time", "Junior", null));
+	}
+
+	@Test
+	void countsEveryValueWithoutFilters() {
+		Map<String, Object> counts = index.counts(Map.of());
+
+		assertEquals(4, counts.get("total"));
+		assertEquals(Map.of("Delhi", 1, "Mumbai", 1, "Pune", 2), counts.get(JobFacetIndex.LOCATION));
+		assertEquals(Map.of("Full-time", 3, "Part-time", 1), counts.get(JobFacetIndex.JOB_TYPE));
+		assertEquals(Map.of("24h", 1, "7d", 2, "30d", 3), counts.get(JobFacetIndex.POSTED_WITHIN));
+	}
+
+	@Test
+	void eachFacetIsCountedAgainstTheOtherFilters() {
+		Map<String, Object> counts = index.counts(Map.of(JobFacetIndex.LOCATION, "Pune"));
+
+		assertEquals(2, counts.get("total"));
+		// The location filter does not narrow the location counts themselves
+		assertEquals(Map.of("Delhi", 1, "Mumbai", 1, "Pune", 2), counts.get(JobFacetIndex.LOCATION));
+		assertEquals(Map.of("Full-time", 1, "Part-time", 1), counts.get(JobFacetIndex.JOB_TYPE));
+		assertEquals(Map.of("Junior", 1, "Senior", 1), counts.get(JobFacetIndex.EXPERIENCE_LEVEL));
+		assertEquals(Map.of("24h", 1, "7d", 2, "30d", 2), counts.get(JobFacetIndex.POSTED_WITHIN));
+	}
+
+	@Test
+	void combinesFiltersIncludingThePostedBucket() {
+		Map<String, Object> counts = index.counts(Map.of(
+				JobFacetIndex.JOB_TYPE, "Full-time", JobFacetIndex.POSTED_WITHIN, "7d"));
+
+		assertEquals(1, counts.get("total"));
+		assertEquals(Map.of("Pune", 1), counts.get(JobFacetIndex.LOCATION));
+		assertEquals(Map.of("Full-time", 1, "Part-time", 1), counts.get(JobFacetIndex.JOB_TYPE));
+		assertEquals(Map.of("24h", 1, "7d", 1, "30d", 2), counts.get(JobFacetIndex.POSTED_WITHIN));
+	}
+
+	@Test
+	void unknownValuesMatchNothingAndUnknownBucketsAreRejected() {
+		assertEquals(0, index.counts(Map.of(JobFacetIndex.LOCATION, "Chennai")).get("total"));
+		assertThrows(IllegalArgumentException.class,
+				() -> index.counts(Map.of(JobFacetIndex.POSTED_WITHIN, "1y")));
+	}
+
+	@Test
+	void updatesAndRemovalsClearTheOldBits() {
+		index.index(job(3L, "Pune", "Full-time", "Senior", LocalDate.now()));
+		index.remove(4L);
+
+		Map<String, Object> counts = index.counts(Map.of());
+		assertEquals(3, counts.get("total"));
+		assertEquals(Map.of("Pune", 3), counts.get(JobFacetIndex.LOCATION));
+		assertEquals(Map.of("24h", 2, "7d", 3, "30d", 3), counts.get(JobFacetIndex.POSTED_WITHIN));
+	}
+
+	private static Job job(Long id, String location, String jobType, String experienceLevel, LocalDate postedDate) {
+		Job job = new Job("Engineer", "Acme", location, "");
+		job.setId(id);
+		job.setJobType(jobType);
+		job.setExperienceLevel(experienceLevel);
+		job.setPostedDate(postedDate);
+		return job;
+	}
+}
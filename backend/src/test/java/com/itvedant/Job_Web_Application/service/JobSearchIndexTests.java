@@ -0,0 +1,92 @@
+package com.itvedant.Job_Web_Application.service;
+
+import com.itvedant.Job_Web_Application.entities.Job;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class JobSearchIndexTests {
+
+	private JobSearchIndex index;
+
+	@BeforeEach
+	void setUp() {
+		index = new JobSearchIndex();
+		index.index(job(1L, "Java Developer", "Acme", "Pune", "Build services in Java and Spring"));
+		index.index(job(2L, "Frontend Engineer", "Globex", "Mumbai", "React and some Java on the backend"));
+		index.index(job(3L, "Data Analyst", "Initech", "Pune", "SQL reporting"));
+		index.index(job(4L, "Senior Java Engineer", "Acme", "Delhi", "Java, Java, Java"));
+	}
+
+	@Test
+	void ranksTitleAndFrequentMatchesFirst() {
+		JobHits hits = index.search("java", 0, 10);
+
+		assertEquals(3, hits.total());
+		assertArrayEquals(new long[] {4, 1, 2}, hits.jobIds());
+	}
+
+	@Test
+	void rareTermsOutweighCommonOnes() {
+		// "pune" matches two jobs, "sql" only one, so the SQL job ranks first
+		JobHits hits = index.search("pune sql", 0, 10);
+
+		assertArrayEquals(new long[] {3, 1}, hits.jobIds());
+	}
+
+	@Test
+	void pagesThroughRankedHits() {
+		assertArrayEquals(new long[] {4, 1}, index.search("java", 0, 2).jobIds());
+		assertArrayEquals(new long[] {2}, index.search("java", 1, 2).jobIds());
+	}
+
+	@Test
+	void pagesPastTheMatchesAreEmptyWithoutAllocatingForThem() {
+		JobHits hits = index.search("java", 1_000_000, 100);
+		assertEquals(0, hits.jobIds().length);
+		assertEquals(3, hits.total());
+
+		hits = index.search("java", Integer.MAX_VALUE, Integer.MAX_VALUE);
+		assertEquals(0, hits.jobIds().length);
+
+		// Scores left over from the early return must not leak into the next search
+		assertArrayEquals(new long[] {4, 1, 2}, index.search("java", 0, 10).jobIds());
+	}
+
+	@Test
+	void removedAndReplacedJobsAreReflected() {
+		index.remove(4L);
+		index.index(job(1L, "Office Manager", "Acme", "Pune", "Admin work"));
+
+		assertArrayEquals(new long[] {2}, index.search("java", 0, 10).jobIds());
+		assertEquals(2, index.search("pune", 0, 10).total());
+	}
+
+	@Test
+	void removalsSwappedIntoHolesKeepEveryPostingRemovable() {
+		for (long id = 10; id < 30; id++) {
+			index.index(job(id, "Kotlin Engineer", "Acme", "Pune", "Kotlin"));
+		}
+		// Remove from the front, middle and back so entries get moved around each posting list
+		for (long id : new long[] {10, 19, 29, 15, 11, 28}) {
+			index.remove(id);
+		}
+		for (long id = 12; id < 28; id += 2) {
+			index.remove(id);
+		}
+
+		JobHits hits = index.search("kotlin", 0, 20);
+		assertEquals(6, hits.total());
+		assertArrayEquals(new long[] {27, 25, 23, 21, 17, 13}, hits.jobIds());
+		assertEquals(8, index.search("pune", 0, 20).total());
+	}
+
+	private static Job job(Long id, String title, String company, String location, String description) {
+		Job job = new Job(title, company, location, description);
+		job.setId(id);
+		return job;
+	}
+
+}
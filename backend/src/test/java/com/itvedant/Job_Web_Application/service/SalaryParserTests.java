@@ -0,0 +1,41 @@
+package com.itvedant.Job_Web_Application.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class SalaryParserTests {
+
+	@ParameterizedTest(name = "{0}")
+	@CsvSource(delimiter = '|', nullValues = "null", textBlock = """
+			₹5-8 LPA                      | 500000  | 800000   | INR  | YEAR
+			5 - 8 lakhs                   | 500000  | 800000   | INR  | YEAR
+			Rs. 5 to Rs. 8 lakhs          | 500000  | 800000   | INR  | YEAR
+			1.5 Cr                        | 15000000| 15000000 | INR  | YEAR
+			Up to 10 LPA, 2 years         | 1000000 | 1000000  | INR  | YEAR
+			12 LPA + 2 LPA bonus          | 1200000 | 1200000  | INR  | YEAR
+			$80,000 - $100,000            | 80000   | 100000   | USD  | YEAR
+			$80k-$100k                    | 80000   | 100000   | USD  | YEAR
+			$120k, 401k match             | 120000  | 120000   | USD  | YEAR
+			$150k + RSUs                  | 150000  | 150000   | USD  | YEAR
+			40k/month                     | 480000  | 480000   | null | MONTH
+			€3,000 - €4,000 per month     | 36000   | 48000    | EUR  | MONTH
+			$30/hr                        | 62400   | 62400    | USD  | HOUR
+			$25 - $35 per hour, 3 shifts  | 52000   | 72800    | USD  | HOUR
+			£45,000                       | 45000   | 45000    | GBP  | YEAR
+			""")
+	void parsesRangesToYearlyAmounts(String text, long min, long max, String currency, String period) {
+		SalaryParser.Salary salary = SalaryParser.parse(text);
+		assertEquals(new SalaryParser.Salary(min, max, currency, period), salary);
+	}
+
+	@Test
+	void returnsNullWithoutAnAmount() {
+		assertNull(SalaryParser.parse(null));
+		assertNull(SalaryParser.parse("  "));
+		assertNull(SalaryParser.parse("Competitive"));
+	}
+}
@@ -0,0 +1,78 @@
+package com.itvedant.Job_Web_Application.service;
+
+import com.itvedant.Job_Web_Application.entities.Job;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SalaryRangeIndexTests {
+
+	private SalaryRangeIndex index;
+
+	@BeforeEach
+	void setUp() {
+		index = new SalaryRangeIndex();
+		index.index(job(1L, 300_000L, 500_000L, "INR"));
+		index.index(job(2L, 800_000L, 1_200_000L, "INR"));
+		index.index(job(3L, 1_500_000L, 2_500_000L, "INR"));
+		index.index(job(4L, 600_000L, 900_000L, "INR"));
+		index.index(job(5L, 90_000L, 120_000L, "USD"));
+		for (long id = 10; id < 40; id++) {
+			index.index(job(id, 4_000_000L + id, 5_000_000L + id, "INR"));
+		}
+	}
+
+	@Test
+	void minOnlyIsHighestPayingFirst() {
+		JobHits hits = index.search("inr", 850_000L, null, 1, 30);
+
+		assertEquals(33, hits.total());
+		assertArrayEquals(new long[] {3, 2, 4}, hits.jobIds());
+	}
+
+	@Test
+	void rangeMatchesOverlappingJobsFromEitherSide() {
+		// Few jobs start below 1M, so the scan runs over the min-sorted side
+		JobHits narrow = index.search("INR", 550_000L, 1_000_000L, 0, 10);
+		assertEquals(2, narrow.total());
+		assertArrayEquals(new long[] {2, 4}, narrow.jobIds());
+
+		// Few jobs reach 5,000,030, so the scan runs over the max-sorted side
+		JobHits wide = index.search("INR", 5_000_030L, 9_000_000L, 0, 5);
+		assertEquals(10, wide.total());
+		assertArrayEquals(new long[] {39, 38, 37, 36, 35}, wide.jobIds());
+	}
+
+	@Test
+	void pagesPastTheEndAreEmpty() {
+		JobHits hits = index.search("INR", null, 1_000_000L, 5, 10);
+
+		assertEquals(3, hits.total());
+		assertEquals(0, hits.jobIds().length);
+	}
+
+	@Test
+	void updatesAndRemovalsMoveJobs() {
+		index.index(job(1L, 1_000_000L, 1_100_000L, "INR"));
+		index.remove(2L);
+
+		assertArrayEquals(new long[] {1, 4}, index.search("INR", 550_000L, 1_000_000L, 0, 10).jobIds());
+	}
+
+	@Test
+	void requiresACurrency() {
+		assertThrows(IllegalArgumentException.class, () -> index.search(" ", 100L, null, 0, 10));
+	}
+
+	private static Job job(Long id, Long min, Long max, String currency) {
+		Job job = new Job("Engineer", "Acme", "Pune", "");
+		job.setId(id);
+		job.setSalaryMin(min);
+		job.setSalaryMax(max);
+		job.setSalaryCurrency(currency);
+		return job;
+	}
+}
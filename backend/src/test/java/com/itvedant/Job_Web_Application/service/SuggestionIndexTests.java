@@ -0,0 +1,57 @@
+package com.itvedant.Job_Web_Application.service;
+
+import com.itvedant.Job_Web_Application.entities.Job;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SuggestionIndexTests {
+
+	@Test
+	void suggestsByWordStartMostFrequentFirst() {
+		SuggestionIndex index = new SuggestionIndex();
+		index.indexJob(job(1L, "Java Developer", "Acme", "Pune"));
+		index.indexJob(job(2L, "Senior Java Developer", "Acme", "Pune"));
+		index.indexJob(job(3L, "Java Developer", "Globex", "Mumbai"));
+
+		assertEquals(List.of("Java Developer", "Senior Java Developer"), texts(index.suggest("jav", 10)));
+		assertEquals(List.of("Acme"), texts(index.suggest("ac", 10)));
+		assertEquals(2, index.suggest("java d", 10).get(0).get("count"));
+	}
+
+	@Test
+	void removedValuesStopSuggestingAndSlotsAreReused() {
+		SuggestionIndex index = new SuggestionIndex();
+		for (long id = 1; id <= 200; id++) {
+			index.indexJob(job(id, "Role " + id, "Company " + id, "City"));
+		}
+		for (long id = 1; id <= 200; id++) {
+			index.removeJob(id);
+		}
+		assertTrue(index.suggest("role", 10).isEmpty());
+		assertTrue(index.suggest("c", 10).isEmpty());
+
+		index.indexJob(job(1L, "Rust Engineer", "Initech", "Delhi"));
+		index.indexJob(job(2L, "Ruby Engineer", "Initech", "Delhi"));
+		index.indexJob(job(2L, "Rubyist", "Initech", "Delhi"));
+
+		assertEquals(Set.of("Rubyist", "Rust Engineer"), Set.copyOf(texts(index.suggest("ru", 10))));
+		assertEquals(List.of("Rust Engineer"), texts(index.suggest("eng", 10)));
+		assertEquals(2, index.suggest("ini", 10).get(0).get("count"));
+	}
+
+	private static List<Object> texts(List<Map<String, Object>> suggestions) {
+		return suggestions.stream().map(suggestion -> suggestion.get("text")).toList();
+	}
+
+	private static Job job(Long id, String title, String company, String location) {
+		Job job = new Job(title, company, location, "");
+		job.setId(id);
+		return job;
+	}
+}
@@ -0,0 +1,80 @@
+package com.itvedant.Job_Web_Application.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TinyLfuCacheTests {
+
+	@Test
+	void servesPutValuesUntilInvalidated() {
+		TinyLfuCache<Long, String> cache = new TinyLfuCache<>(1_000, 100, value -> 1);
+		cache.put(1L, "one");
+
+		assertEquals("one", cache.get(1L));
+		cache.invalidate(1L);
+		assertNull(cache.get(1L));
+		assertEquals(1L, cache.stats().get("hits"));
+		assertEquals(1L, cache.stats().get("misses"));
+	}
+
+	@Test
+	void popularEntriesSurviveAScanOfOneOffKeys() {
+		TinyLfuCache<Long, String> cache = new TinyLfuCache<>(200, 200, value -> 1);
+		for (long key = 0; key < 100; key++) {
+			cache.put(key, "hot");
+		}
+		for (int round = 0; round < 5; round++) {
+			for (long key = 0; key < 100; key++) {
+				cache.get(key);
+			}
+		}
+		for (long key = 1_000; key < 2_000; key++) {
+			cache.put(key, "cold");
+		}
+
+		int survivors = 0;
+		for (long key = 0; key < 100; key++) {
+			if (cache.get(key) != null) {
+				survivors++;
+			}
+		}
+		assertTrue(survivors >= 95, "only " + survivors + " hot entries survived");
+		assertTrue(cache.stats().get("weight") <= 200);
+	}
+
+	@Test
+	void concurrentReadsSeeEveryCachedValue() throws InterruptedException {
+		TinyLfuCache<Long, Long> cache = new TinyLfuCache<>(10_000, 1_000, value -> 1);
+		for (long key = 0; key < 500; key++) {
+			cache.put(key, key);
+		}
+		AtomicInteger wrong = new AtomicInteger();
+		List<Thread> readers = new ArrayList<>();
+		for (int t = 0; t < 8; t++) {
+			Thread reader = new Thread(() -> {
+				for (int i = 0; i < 20_000; i++) {
+					long key = i % 500;
+					Long value = cache.get(key);
+					if (value == null || value != key) {
+						wrong.incrementAndGet();
+					}
+				}
+			});
+			readers.add(reader);
+			reader.start();
+		}
+		for (Thread reader : readers) {
+			reader.join();
+		}
+
+		assertEquals(0, wrong.get());
+		assertEquals(160_000L, cache.stats().get("hits"));
+	}
+}
@@ -0,0 +1,61 @@
+package com.itvedant.Job_Web_Application.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TopKHeapTests {
+
+	@Test
+	void keepsHighestScoresBestFirst() {
+		TopKHeap heap = new TopKHeap(3);
+		heap.offer(1, 0.5);
+		heap.offer(2, 3.0);
+		heap.offer(3, 1.0);
+		heap.offer(4, 2.0);
+		heap.offer(5, 0.1);
+
+		TopKHeap.Entries entries = heap.drainEntriesDescending();
+		assertArrayEquals(new long[] {2, 4, 3}, entries.keys());
+		assertArrayEquals(new double[] {3.0, 2.0, 1.0}, entries.scores());
+		assertEquals(0, heap.size());
+	}
+
+	@Test
+	void breaksTiesInFavourOfLargerKey() {
+		TopKHeap heap = new TopKHeap(2);
+		heap.offer(7, 1.0);
+		heap.offer(9, 1.0);
+		heap.offer(8, 1.0);
+
+		assertArrayEquals(new long[] {9, 8}, heap.drainDescending());
+	}
+
+	@Test
+	void thresholdIsOpenUntilFull() {
+		TopKHeap heap = new TopKHeap(2);
+		heap.offer(1, 5.0);
+		assertEquals(Double.NEGATIVE_INFINITY, heap.threshold());
+		heap.offer(2, 4.0);
+		assertEquals(4.0, heap.threshold());
+		heap.offer(3, 6.0);
+		assertEquals(5.0, heap.threshold());
+	}
+
+	@Test
+	void drainsPartiallyFilledHeap() {
+		TopKHeap heap = new TopKHeap(10);
+		heap.offer(1, 1.0);
+		heap.offer(2, 2.0);
+
+		assertArrayEquals(new long[] {2, 1}, heap.drainDescending());
+	}
+
+	@Test
+	void rejectsNonPositiveCapacity() {
+		assertThrows(IllegalArgumentException.class, () -> new TopKHeap(0));
+	}
+
+}
@@ -8,7 +8,9 @@ function Applications() {
   const [loading, setLoading] = useState(true);
   const [error, setError] = useState(null);
   const [selectedStatus, setSelectedStatus] = useState('ALL');
-  const [seekerProfiles, setSeekerProfiles] = useState({});
+  const [page, setPage] = useState(0);
+  const [totalMatching, setTotalMatching] = useState(0);
+  const [loadingMore, setLoadingMore] = useState(false);
   const [stats, setStats] = useState({
     total: 0,
     pending: 0,
@@ -27,56 +29,41 @@ function Applications() {
       setLoading(false);
       return;
     }
-    loadApplications(recruiterId);
-  }, []);
+    loadApplications(recruiterId, selectedStatus, 0);
+  }, [selectedStatus]);
 
-  const loadApplications = async (recruiterId) => {
+  // Applications arrive newest first with applicant and profile details already joined in
+  // offset, when given, is the exact row to continue from; rows removed locally shift the server's pages
+  const loadApplications = async (recruiterId, status, pageToLoad, offset) => {
     try {
-      console.log('Fetching applications for recruiter:', recruiterId);
-      const response = await axios.get(`http://localhost:8080/api/applications/recruiter/${recruiterId}`, { withCredentials: true });
-      console.log('Applications response:', response.data);
-      setApplications(response.data);
-      
-      // Calculate statistics
-      const total = response.data.length;
-      const pending = response.data.filter(app => app.status === 'PENDING').length;
-      const accepted = response.data.filter(app => app.status === 'ACCEPTED').length;
-      const rejected = response.data.filter(app => app.status === 'REJECTED').length;
-      
-      setStats({ total, pending, accepted, rejected });
-      
-      // Fetch profile data for each seeker
-      const profiles = {};
-      console.log('Fetching seeker profiles...');
-      for (const app of response.data) {
-        if (app.seeker && app.seeker.id) {
-          console.log('Fetching profile for seeker:', app.seeker.id);
-          try {
-            const profileResponse = await axios.get(`http://localhost:8080/api/profiles/seeker/${app.seeker.id}`, { withCredentials: true });
-            console.log('Profile response for seeker', app.seeker.id, ':', profileResponse.data);
-            profiles[app.seeker.id] = profileResponse.data;
-          } catch (profileErr) {
-            console.log('Profile not found for seeker:', app.seeker.id, profileErr.message);
-            // Try to fetch basic seeker data as fallback
-            try {
-              const seekerResponse = await axios.get(`http://localhost:8080/api/seekers/${app.seeker.id}`, { withCredentials: true });
-              console.log('Basic seeker data for', app.seeker.id, ':', seekerResponse.data);
-              profiles[app.seeker.id] = {
-                ...seekerResponse.data,
-                phoneNumber: 'N/A',
-                experienceLevel: 'N/A',
-                skills: 'N/A',
-                education: 'N/A'
-              };
-            } catch (seekerErr) {
-              console.log('Seeker data also not found:', app.seeker.id, seekerErr.message);
-              profiles[app.seeker.id] = null;
-            }
-          }
-        }
+      const params = { page: pageToLoad, order: 'desc' };
+      if (status !== 'ALL') {
+        params.status = status;
       }
-      console.log('All seeker profiles:', profiles);
-      setSeekerProfiles(profiles);
+      if (offset !== undefined) {
+        params.offset = offset;
+      }
+      const response = await axios.get(`http://localhost:8080/api/applications/recruiter/${recruiterId}/inbox`, { params, withCredentials: true });
+      const data = response.data;
+      setApplications(prev => {
+        if (pageToLoad === 0) {
+          return data.applications;
+        }
+        // New arrivals push older rows down a position, so skip any we already have
+        const loaded = new Set(prev.map(app => app.id));
+        return [...prev, ...data.applications.filter(app => !loaded.has(app.id))];
+      });
+      setPage(data.page);
+      setTotalMatching(data.total);
+
+      const counts = data.statusCounts || {};
+      const total = Object.values(counts).reduce((sum, count) => sum + count, 0);
+      setStats({
+        total,
+        pending: counts.PENDING || 0,
+        accepted: counts.ACCEPTED || 0,
+        rejected: counts.REJECTED || 0
+      });
       setLoading(false);
     } catch (err) {
       console.error('Error loading applications:', err);
@@ -85,21 +72,46 @@ function Applications() {
     }
   };
 
+  const loadMoreApplications = async () => {
+    setLoadingMore(true);
+    await loadApplications(localStorage.getItem('recruiterId'), selectedStatus, page + 1, applications.length);
+    setLoadingMore(false);
+  };
+
   const handleStatusUpdate = async (applicationId, newStatus) => {
+    const previous = applications.find(app => app.id === applicationId);
     try {
-      await axios.put(`http://localhost:8080/api/applications/${applicationId}/status`, 
-        { status: newStatus }, 
+      // Sending the version we last saw makes the server refuse to overwrite someone else's change
+      const response = await axios.put(`http://localhost:8080/api/applications/${applicationId}/status`, 
+        { status: newStatus, version: previous?.version }, 
         { withCredentials: true }
       );
       
-      // Update the local state
-      setApplications(prev => prev.map(app => 
-        app.id === applicationId ? { ...app, status: newStatus } : app
-      ));
+      // Update the local state; a row moved out of the selected filter leaves the list and its total
+      if (selectedStatus !== 'ALL' && response.data.status !== selectedStatus) {
+        setApplications(prev => prev.filter(app => app.id !== applicationId));
+        setTotalMatching(prev => Math.max(0, prev - 1));
+      } else {
+        setApplications(prev => prev.map(app => 
+          app.id === applicationId ? { ...app, status: response.data.status, version: response.data.version } : app
+        ));
+      }
+      if (previous && previous.status !== newStatus) {
+        const key = status => status.toLowerCase();
+        setStats(prev => {
+          const next = { ...prev };
+          if (key(previous.status) in next) next[key(previous.status)] -= 1;
+          if (key(newStatus) in next) next[key(newStatus)] += 1;
+          return next;
+        });
+      }
       
       alert('Application status updated successfully!');
     } catch (err) {
       alert('Failed to update status: ' + (err.response?.data?.message || err.message));
+      if (err.response?.status === 409) {
+        loadApplications(localStorage.getItem('recruiterId'), selectedStatus, 0);
+      }
     }
   };
 
@@ -186,16 +198,11 @@ function Applications() {
     }
   };
 
-  // Sort applications by appliedDate (newest first) and then filter by status
-  const sortedApplications = [...applications].sort((a, b) => {
-    const dateA = a.appliedDate ? new Date(a.appliedDate) : new Date(0);
-    const dateB = b.appliedDate ? new Date(b.appliedDate) : new Date(0);
-    return dateB - dateA; // Descending order (newest first)
-  });
-
+  // The server already sorts by applied date and filters by status, and rows changed away from
+  // the selected filter are removed on update; this only guards against stale rows
   const filteredApplications = selectedStatus === 'ALL' 
-    ? sortedApplications 
-    : sortedApplications.filter(app => app.status === selectedStatus);
+    ? applications 
+    : applications.filter(app => app.status === selectedStatus);
 
   if (loading) {
     return (
@@ -250,7 +257,7 @@ function Applications() {
           <label>Filter by Status: </label>
           <select 
             value={selectedStatus} 
-            onChange={(e) => setSelectedStatus(e.target.value)}
+            onChange={(e) => { setLoading(true); setSelectedStatus(e.target.value); }}
             className="status-select"
           >
             <option value="ALL">All Applications</option>
@@ -259,6 +266,12 @@ function Applications() {
             <option value="REJECTED">Rejected</option>
             <option value="WITHDRAWN">Withdrawn</option>
           </select>
+          <a
+            className="download-btn"
+            href={`http://localhost:8080/api/applications/recruiter/${localStorage.getItem('recruiterId')}/export?format=csv`}
+          >
+            Export CSV
+          </a>
         </div>
 
         {filteredApplications.length === 0 ? (
@@ -297,28 +310,28 @@ function Applications() {
                   <h4>Applicant Information</h4>
                   <div className="seeker-details">
                     <div className="detail-row">
-                      <strong>Full Name:</strong> <span>{app.seeker?.name || seekerProfiles[app.seeker?.id]?.name || 'N/A'}</span>
+                      <strong>Full Name:</strong> <span>{app.seeker?.name || 'N/A'}</span>
                     </div>
                     <div className="detail-row">
-                      <strong>Email:</strong> <span>{app.seeker?.email || seekerProfiles[app.seeker?.id]?.email || 'N/A'}</span>
+                      <strong>Email:</strong> <span>{app.seeker?.email || 'N/A'}</span>
                     </div>
                     <div className="detail-row">
-                      <strong>Phone:</strong> <span>{seekerProfiles[app.seeker?.id]?.phoneNumber || 'N/A'}</span>
+                      <strong>Phone:</strong> <span>{app.profile?.phoneNumber || 'N/A'}</span>
                     </div>
                     <div className="detail-row">
-                      <strong>Experience:</strong> <span>{seekerProfiles[app.seeker?.id]?.experienceLevel || 'N/A'}</span>
+                      <strong>Experience:</strong> <span>{app.profile?.experienceLevel || 'N/A'}</span>
                     </div>
                     <div className="detail-row">
-                      <strong>Skills:</strong> <span>{seekerProfiles[app.seeker?.id]?.skills || 'N/A'}</span>
+                      <strong>Skills:</strong> <span>{app.profile?.skills || 'N/A'}</span>
                     </div>
                     <div className="detail-row">
-                      <strong>Education:</strong> <span>{seekerProfiles[app.seeker?.id]?.education || 'N/A'}</span>
+                      <strong>Education:</strong> <span>{app.profile?.education || 'N/A'}</span>
                     </div>
                     <div className="detail-row">
-                      <strong>Location:</strong> <span>{seekerProfiles[app.seeker?.id]?.location || 'N/A'}</span>
+                      <strong>Location:</strong> <span>{app.profile?.location || 'N/A'}</span>
                     </div>
                     <div className="detail-row">
-                      <strong>Profile Headline:</strong> <span>{seekerProfiles[app.seeker?.id]?.profileHeadline || 'N/A'}</span>
+                      <strong>Profile Headline:</strong> <span>{app.profile?.profileHeadline || 'N/A'}</span>
                     </div>
                   </div>
                 </div>
@@ -388,6 +401,14 @@ function Applications() {
           </div>
         )}
 
+        {applications.length < totalMatching && (
+          <div style={{ textAlign: 'center', padding: '1rem' }}>
+            <button className="load-more-btn" onClick={loadMoreApplications} disabled={loadingMore}>
+              {loadingMore ? 'Loading...' : 'Load more applications'}
+            </button>
+          </div>
+        )}
+
         {/* Resume Modal */}
         {selectedResume && (
           <div className="resume-modal-overlay" onClick={closeResumeModal}>
@@ -10,7 +10,9 @@ function RecruiterHome() {
   const navigate = useNavigate();
   const [jobs, setJobs] = useState([]);
   const [loading, setLoading] = useState(true);
-  const [applicationsLoading, setApplicationsLoading] = useState(false);
+  const [dashboardPage, setDashboardPage] = useState(0);
+  const [totalJobs, setTotalJobs] = useState(0);
+  const [loadingMore, setLoadingMore] = useState(false);
   const [error, setError] = useState(null);
   const [showProfileForm, setShowProfileForm] = useState(false);
   const [profileForm, setProfileForm] = useState({
@@ -59,31 +61,20 @@ function RecruiterHome() {
     }
   };
 
+  const toDashboardJobs = (entries) =>
+    (entries || []).map(entry => ({
+      ...entry.job,
+      statusCounts: entry.statusCounts || {},
+      totalApplications: entry.totalApplications || 0
+    }));
+
   const loadJobs = async (recruiterId) => {
     try {
-      const res = await axios.get(`http://localhost:8080/api/jobs/recruiter/${recruiterId}`, { withCredentials: true });
-      const jobsData = res.data;
-      
-      // Fetch applications count for each job
-      const jobsWithApplications = await Promise.all(
-        jobsData.map(async (job) => {
-          try {
-            const applicationsRes = await axios.get(`http://localhost:8080/api/applications/job/${job.id}`, { withCredentials: true });
-            return {
-              ...job,
-              applications: applicationsRes.data || []
-            };
-          } catch (err) {
-            console.error(`Error fetching applications for job ${job.id}:`, err);
-            return {
-              ...job,
-              applications: []
-            };
-          }
-        })
-      );
-      
-      setJobs(jobsWithApplications);
+      // One request returns the jobs together with their application counts per status
+      const res = await axios.get(`http://localhost:8080/api/recruiters/${recruiterId}/dashboard`, { withCredentials: true });
+      setJobs(toDashboardJobs(res.data.jobs));
+      setDashboardPage(res.data.page);
+      setTotalJobs(res.data.total);
       setLoading(false);
     } catch (err) {
       setError(err.response?.data?.message || err.message);
@@ -91,6 +82,22 @@ function RecruiterHome() {
     }
   };
 
+  const loadMoreJobs = async () => {
+    const recruiterId = localStorage.getItem('recruiterId');
+    try {
+      setLoadingMore(true);
+      const res = await axios.get(`http://localhost:8080/api/recruiters/${recruiterId}/dashboard?page=${dashboardPage + 1}`, { withCredentials: true });
+      setJobs(prev => [...prev, ...toDashboardJobs(res.data.jobs)]);
+      setDashboardPage(res.data.page);
+      setTotalJobs(res.data.total);
+    } catch (err) {
+      console.error('Error loading more jobs:', err);
+      setError(err.response?.data?.message || err.message);
+    } finally {
+      setLoadingMore(false);
+    }
+  };
+
   const handleDeleteClick = (job) => {
     setJobToDelete(job);
     setShowDeleteModal(true);
@@ -103,6 +110,7 @@ function RecruiterHome() {
       // First try to delete normally
       await axios.delete(`http://localhost:8080/api/jobs/${jobToDelete.id}`, { withCredentials: true });
       setJobs(jobs => jobs.filter(job => job.id !== jobToDelete.id));
+      setTotalJobs(total => total - 1);
       setShowDeleteModal(false);
       setJobToDelete(null);
     } catch (err) {
@@ -138,6 +146,7 @@ function RecruiterHome() {
       // Then try to delete the job again
       await axios.delete(`http://localhost:8080/api/jobs/${jobToDelete.id}`, { withCredentials: true });
       setJobs(jobs => jobs.filter(job => job.id !== jobToDelete.id));
+      setTotalJobs(total => total - 1);
       setShowForceDeleteModal(false);
       setJobToDelete(null);
     } catch (forceErr) {
@@ -360,7 +369,7 @@ function RecruiterHome() {
                       <path d="M9 12l2 2 4-4m6 2a9 9 0 11-18 0 9 9 0 0118 0z" />
                     </svg>
                     <span className="applications-text">
-                      {job.applications ? job.applications.length : 0} {job.applications && job.applications.length === 1 ? 'Applicant' : 'Applicants'}
+                      {job.totalApplications} {job.totalApplications === 1 ? 'Applicant' : 'Applicants'}
                     </span>
                   </div>
                   <button
@@ -373,6 +382,13 @@ function RecruiterHome() {
               ))}
             </div>
           )}
+          {!loading && !error && jobs.length < totalJobs && (
+            <div style={{ textAlign: 'center', padding: '1rem' }}>
+              <button className="load-more-btn" onClick={loadMoreJobs} disabled={loadingMore}>
+                {loadingMore ? 'Loading...' : 'Load more jobs'}
+              </button>
+            </div>
+          )}
         </div>
       )}
 
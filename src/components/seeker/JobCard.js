@@ -3,7 +3,7 @@ import { useNavigate } from 'react-router-dom';
 import { ThemeContext } from '../../App';
 import './JobCard.css';
 
-function JobCard({ job }) {
+function JobCard({ job, status }) {
   const navigate = useNavigate();
   const { theme } = useContext(ThemeContext);
   const [showModal, setShowModal] = useState(false);
@@ -17,8 +17,13 @@ function JobCard({ job }) {
   const [isSaved, setIsSaved] = useState(false);
   const [savingJob, setSavingJob] = useState(false);
 
-  // Check if job is already saved when component mounts
+  // Check if job is already saved when component mounts, unless the page already fetched it
   useEffect(() => {
+    if (status) {
+      setIsSaved(status.saved);
+      return;
+    }
+
     const checkIfSaved = async () => {
       const seekerId = localStorage.getItem('seekerId');
       if (!seekerId) return;
@@ -40,7 +45,7 @@ function JobCard({ job }) {
     };
     
     checkIfSaved();
-  }, [job.id]);
+  }, [job.id, status]);
 
   const handleSaveJob = async (e) => {
     e.stopPropagation();
@@ -139,6 +144,11 @@ function JobCard({ job }) {
       setCheckingApplied(false);
       return;
     }
+    if (status && status.applied) {
+      setAlreadyApplied(true);
+      setCheckingApplied(false);
+      return;
+    }
     try {
       const resp = await fetch(`http://localhost:8080/api/applications/check/${job.id}/${seekerId}`);
       
@@ -11,7 +11,10 @@ function SavedJobs() {
   const navigate = useNavigate();
   const { theme } = useContext(ThemeContext);
   const [savedJobs, setSavedJobs] = useState([]);
+  const [page, setPage] = useState(0);
+  const [total, setTotal] = useState(0);
   const [loading, setLoading] = useState(true);
+  const [loadingMore, setLoadingMore] = useState(false);
   const [error, setError] = useState('');
   
   // Modal states
@@ -46,10 +49,12 @@ function SavedJobs() {
           return;
         }
 
-        const response = await fetch(`http://localhost:8080/api/saved-jobs/${seekerId}`);
+        const response = await fetch(`http://localhost:8080/api/saved-jobs/${seekerId}?page=0`);
         if (response.ok) {
           const data = await response.json();
-          setSavedJobs(data);
+          setSavedJobs(data.savedJobs);
+          setTotal(data.total);
+          setPage(0);
         } else if (response.status === 404) {
           // Backend not implemented yet, show empty state
           setSavedJobs([]);
@@ -68,6 +73,47 @@ function SavedJobs() {
     fetchSavedJobs();
   }, [navigate]);
 
+  // Continue after the last row shown rather than at page * size, so local unsaves don't skip rows
+  const loadMoreSavedJobs = async () => {
+    const seekerId = localStorage.getItem('seekerId');
+    const last = savedJobs[savedJobs.length - 1];
+    const cursor = last
+      ? `&cursorDate=${encodeURIComponent(last.savedDate)}&cursorId=${last.savedJobId}`
+      : '';
+    setLoadingMore(true);
+    try {
+      const response = await fetch(`http://localhost:8080/api/saved-jobs/${seekerId}?page=${page + 1}${cursor}`);
+      if (response.ok) {
+        const data = await response.json();
+        setSavedJobs(prev => [...prev, ...data.savedJobs]);
+        setTotal(data.total);
+        setPage(data.page);
+      }
+    } catch (error) {
+      console.error('Error fetching more saved jobs:', error);
+    } finally {
+      setLoadingMore(false);
+    }
+  };
+
+  const handleUnsaveJob = async (e, savedJob) => {
+    e.stopPropagation();
+    const seekerId = localStorage.getItem('seekerId');
+    try {
+      const response = await fetch(`http://localhost:8080/api/saved-jobs/${savedJob.jobId}/${seekerId}`, {
+        method: 'DELETE',
+      });
+      if (response.ok) {
+        setSavedJobs(prev => prev.filter(job => job.savedJobId !== savedJob.savedJobId));
+        setTotal(prev => Math.max(0, prev - 1));
+      } else {
+        console.error('Failed to unsave job');
+      }
+    } catch (error) {
+      console.error('Error unsaving job:', error);
+    }
+  };
+
   const handleApplyJob = (e, savedJob) => {
     e.stopPropagation();
     setSelectedJob(savedJob);
@@ -357,16 +403,25 @@ function SavedJobs() {
                     >
                       Apply Now
                     </button>
+                    <button 
+                      className="unsave-btn" 
+                      onClick={(e) => handleUnsaveJob(e, savedJob)}
+                    >
+                      Unsave
+                    </button>
                   </div>
-                  {!savedJob.jobTitle && (
-                    <div className="job-not-found">
-                      <p>⚠️ Job details not found. The job may have been deleted.</p>
-                    </div>
-                  )}
                 </div>
               ))}
             </div>
           )}
+
+          {!loading && !error && savedJobs.length < total && (
+            <div style={{ textAlign: 'center', padding: '1rem' }}>
+              <button className="load-more-btn" onClick={loadMoreSavedJobs} disabled={loadingMore}>
+                {loadingMore ? 'Loading...' : 'Load more saved jobs'}
+              </button>
+            </div>
+          )}
         </div>
       </div>
 
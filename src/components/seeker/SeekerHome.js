@@ -11,6 +11,9 @@ function SeekerHome() {
   const [filteredJobs, setFilteredJobs] = useState([]);
   const [loading, setLoading] = useState(true);
   const [error, setError] = useState(null);
+  const [nextCursor, setNextCursor] = useState(null);
+  const [loadingMore, setLoadingMore] = useState(false);
+  const [jobStatuses, setJobStatuses] = useState({});
   const location = useLocation();
   const [success, setSuccess] = useState(location.state && location.state.success ? location.state.success : '');
   
@@ -26,6 +29,26 @@ function SeekerHome() {
     }
   }, [location]);
 
+  // One request for the saved/applied flags of a whole page of cards
+  const fetchJobStatuses = async (jobList) => {
+    const seekerId = localStorage.getItem('seekerId');
+    if (!seekerId || jobList.length === 0) return;
+    try {
+      const response = await fetch(`http://localhost:8080/api/seekers/${seekerId}/job-status`, {
+        method: 'POST',
+        headers: { 'Content-Type': 'application/json' },
+        body: JSON.stringify({ jobIds: jobList.map(job => job.id) })
+      });
+      if (response.ok) {
+        const data = await response.json();
+        setJobStatuses(prev => ({ ...prev, ...data }));
+      }
+    } catch (err) {
+      // Cards fall back to checking on their own
+      console.error('Error fetching job statuses:', err);
+    }
+  };
+
   useEffect(() => {
     const fetchJobs = async () => {
       try {
@@ -63,10 +86,13 @@ function SeekerHome() {
         if (Array.isArray(data)) {
           setJobs(data);
           setFilteredJobs(data);
+          await fetchJobStatuses(data);
         } else if (data.jobs && Array.isArray(data.jobs)) {
           // If response is wrapped in an object with 'jobs' property
           setJobs(data.jobs);
           setFilteredJobs(data.jobs);
+          setNextCursor(data.nextCursor || null);
+          await fetchJobStatuses(data.jobs);
         } else {
           console.error('Unexpected data format:', data);
           setError('Unexpected data format received from server');
@@ -97,6 +123,28 @@ function SeekerHome() {
     }
   }, [isChecking]);
 
+  const loadMoreJobs = async () => {
+    if (!nextCursor) return;
+    try {
+      setLoadingMore(true);
+      const response = await fetch(`http://localhost:8080/api/jobs?cursor=${encodeURIComponent(nextCursor)}`);
+      if (!response.ok) {
+        throw new Error(`HTTP error! status: ${response.status}`);
+      }
+      const data = await response.json();
+      const moreJobs = Array.isArray(data.jobs) ? data.jobs : [];
+      await fetchJobStatuses(moreJobs);
+      setJobs(prev => [...prev, ...moreJobs]);
+      setFilteredJobs(prev => [...prev, ...moreJobs]);
+      setNextCursor(data.nextCursor || null);
+    } catch (err) {
+      console.error('Error loading more jobs:', err);
+      setError(err.message);
+    } finally {
+      setLoadingMore(false);
+    }
+  };
+
   const handleSearch = (searchQuery) => {
     if (!searchQuery.trim()) {
       setFilteredJobs(jobs);
@@ -184,10 +232,17 @@ function SeekerHome() {
           {!loading && !error && filteredJobs.length > 0 && (
             <div className="jobs-list">
               {filteredJobs.map((job) => (
-                <JobCard job={job} key={job.id} />
+                <JobCard job={job} key={job.id} status={jobStatuses[job.id]} />
               ))}
             </div>
           )}
+          {!loading && !error && nextCursor && (
+            <div style={{ textAlign: 'center', padding: '1rem' }}>
+              <button className="load-more-btn" onClick={loadMoreJobs} disabled={loadingMore}>
+                {loadingMore ? 'Loading...' : 'Load more jobs'}
+              </button>
+            </div>
+          )}
         </div>
       </main>
     </div>